@@ -0,0 +1,97 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 선배 한 명의 약속 시간 수천 개에 대해 제안 시간 3개의 겹침 검사 비용 비교 (기존: 전체 선형 탐색, 변경: IntervalSet 이진 탐색)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntervalSetBenchmark {
+
+    private static final long HOUR = 3600;
+    private static final long DAY = 24 * HOUR;
+    private static final int PROPOSAL_COUNT = 3;
+
+    // 선배가 가진 약속 시간 수
+    @Param({"100", "1000", "10000"})
+    private int slotCount;
+
+    private long[] slotStarts;
+    private long[] slotEnds;
+    private long[] proposalStarts;
+    private long[] proposalEnds;
+    private IntervalSet intervalSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        slotStarts = new long[slotCount];
+        slotEnds = new long[slotCount];
+        // 하루 최대 세 번, 30분 단위 시작의 1시간 약속
+        for (int i = 0; i < slotCount; i++) {
+            slotStarts[i] = (i / 3) * DAY + random.nextInt(48) * (HOUR / 2);
+            slotEnds[i] = slotStarts[i] + HOUR;
+        }
+
+        proposalStarts = new long[PROPOSAL_COUNT];
+        proposalEnds = new long[PROPOSAL_COUNT];
+        long lastDay = slotCount / 3;
+        for (int i = 0; i < PROPOSAL_COUNT; i++) {
+            proposalStarts[i] = random.nextLong(lastDay + 1) * DAY + random.nextInt(48) * (HOUR / 2);
+            proposalEnds[i] = proposalStarts[i] + HOUR;
+        }
+
+        intervalSet = buildIntervalSet();
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        for (int p = 0; p < PROPOSAL_COUNT; p++) {
+            for (int i = 0; i < slotCount; i++) {
+                if (slotStarts[i] < proposalEnds[p] && slotEnds[i] > proposalStarts[p]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean intervalSetCached() {
+        for (int p = 0; p < PROPOSAL_COUNT; p++) {
+            if (intervalSet.overlaps(proposalStarts[p], proposalEnds[p])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 캐시가 비워진 직후 첫 요청 (정렬/병합 비용 포함)
+    @Benchmark
+    public boolean intervalSetBuildAndQuery() {
+        IntervalSet built = buildIntervalSet();
+        for (int p = 0; p < PROPOSAL_COUNT; p++) {
+            if (built.overlaps(proposalStarts[p], proposalEnds[p])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private IntervalSet buildIntervalSet() {
+        IntervalSet.Builder builder = IntervalSet.builder(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            builder.add(slotStarts[i], slotEnds[i]);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,67 @@
+package org.sopt.seonyakServer.domain.senior.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 선배 한 명을 읽을 때 선호 시간 디코딩 비용 비교 (기존: JSON -> Map<String, List<TimeRange>>, 변경: 42바이트 비트셋)
+// 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op)으로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreferredTimeListDecodingBenchmark {
+
+    private static final String[] DAYS = {"월", "화", "수", "목", "금", "토", "일"};
+
+    private ObjectMapper objectMapper;
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+
+        // 요일마다 오전/오후 두 구간을 선호하는 선배
+        PreferredTimeList preferredTimeList = new PreferredTimeList();
+        for (String day : DAYS) {
+            List<TimeRange> times = new ArrayList<>();
+            times.add(timeRange("9:00", "12:00"));
+            times.add(timeRange("14:00", "18:30"));
+            preferredTimeList.setPreferredTime(day, times);
+        }
+
+        json = objectMapper.writeValueAsString(preferredTimeList);
+        bytes = WeeklyTimeSlots.from(preferredTimeList).toBytes();
+    }
+
+    @Benchmark
+    public PreferredTimeList jacksonMap() throws Exception {
+        return objectMapper.readValue(json, PreferredTimeList.class);
+    }
+
+    // 기존 방식으로 읽은 뒤 약속 가능 시간 계산을 위해 칸으로 바꾸는 경우
+    @Benchmark
+    public WeeklyTimeSlots jacksonMapToSlots() throws Exception {
+        return WeeklyTimeSlots.from(objectMapper.readValue(json, PreferredTimeList.class));
+    }
+
+    @Benchmark
+    public WeeklyTimeSlots bitset() {
+        return WeeklyTimeSlots.fromBytes(bytes);
+    }
+
+    private static TimeRange timeRange(String startTime, String endTime) {
+        TimeRange timeRange = new TimeRange();
+        timeRange.setStartTime(startTime);
+        timeRange.setEndTime(endTime);
+        return timeRange;
+    }
+}
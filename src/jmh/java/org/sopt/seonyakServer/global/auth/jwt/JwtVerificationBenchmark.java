@@ -0,0 +1,76 @@
+package org.sopt.seonyakServer.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 요청 한 건당 JWT 검증 비용 비교 (기존: 매번 키/파서 생성 + 2회 파싱, 변경: 캐시된 파서로 1회 파싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String MEMBER_ID = "memberId";
+
+    private String secret;
+    private String token;
+    private JwtParser cachedParser;
+
+    @Setup
+    public void setUp() {
+        secret = Base64.getEncoder()
+                .encodeToString("seonyak-benchmark-secret-key-for-hmac-sha".getBytes(StandardCharsets.UTF_8));
+        SecretKey signingKey = createSigningKey(secret);
+        cachedParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        Date now = new Date();
+        Claims claims = Jwts.claims()
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.DAYS.toMillis(1)));
+        claims.put(MEMBER_ID, 1L);
+
+        token = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setClaims(claims)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    @Benchmark
+    public Long before() {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(createSigningKey(secret)).build().parseClaimsJws(token).getBody();
+        // getMemberIdFromJwt
+        Claims claims = Jwts.parserBuilder().setSigningKey(createSigningKey(secret)).build()
+                .parseClaimsJws(token)
+                .getBody();
+        return Long.valueOf(claims.get(MEMBER_ID).toString());
+    }
+
+    @Benchmark
+    public Long after() {
+        Claims claims = cachedParser.parseClaimsJws(token).getBody();
+        return Long.valueOf(claims.get(MEMBER_ID).toString());
+    }
+
+    private static SecretKey createSigningKey(String secret) {
+        String encodedKey = Base64.getEncoder().encodeToString(secret.getBytes());
+        return Keys.hmacShaKeyFor(encodedKey.getBytes());
+    }
+}
@@ -0,0 +1,147 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// OCR 응답 한 건 처리 비용 비교 (기존: org.json으로 최대 3회 파싱 + 호출마다 Pattern 컴파일, 변경: Jackson 1회 파싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OcrResponseParsingBenchmark {
+
+    // 학생증 한 장에서 인식되는 필드 수
+    @Param({"50", "500"})
+    private int fieldCount;
+
+    private String response;
+    private OcrResponseParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new OcrResponseParser(new ObjectMapper());
+        response = createResponse(fieldCount);
+    }
+
+    @Benchmark
+    public Object beforeUniv() {
+        extractInferResult(response);
+        return extractUnivText(response);
+    }
+
+    @Benchmark
+    public Object beforeBusiness() {
+        extractInferResult(response);
+        return extractTextByKey(response, "company") + extractTextByKey(response, "mobile");
+    }
+
+    @Benchmark
+    public OcrResult after() {
+        return parser.parse(response);
+    }
+
+    // 네이버 OCR V2 응답 형식을 따르는 페이로드
+    private static String createResponse(int fieldCount) {
+        JSONArray fields = new JSONArray();
+        for (int i = 0; i < fieldCount; i++) {
+            JSONObject field = new JSONObject();
+            field.put("valueType", "ALL");
+            field.put("inferText", i % 25 == 0 ? "선약대학교" : "학생증텍스트" + i);
+            field.put("inferConfidence", 0.9987);
+            field.put("type", "NORMAL");
+            field.put("lineBreak", i % 5 == 0);
+            field.put("boundingPoly", new JSONObject().put("vertices", new JSONArray()
+                    .put(new JSONObject().put("x", i).put("y", i))
+                    .put(new JSONObject().put("x", i + 10).put("y", i))
+                    .put(new JSONObject().put("x", i + 10).put("y", i + 10))
+                    .put(new JSONObject().put("x", i).put("y", i + 10))));
+            fields.put(field);
+        }
+
+        JSONObject result = new JSONObject()
+                .put("company", new JSONArray().put(new JSONObject().put("text", "선약 주식회사")))
+                .put("mobile", new JSONArray().put(new JSONObject().put("text", "010-1234-5678")));
+
+        JSONObject image = new JSONObject()
+                .put("uid", "benchmark")
+                .put("name", "demo")
+                .put("inferResult", "SUCCESS")
+                .put("message", "SUCCESS")
+                .put("fields", fields)
+                .put("nameCard", new JSONObject().put("result", result));
+
+        return new JSONObject()
+                .put("version", "V2")
+                .put("requestId", "benchmark")
+                .put("timestamp", System.currentTimeMillis())
+                .put("images", new JSONArray().put(image))
+                .toString();
+    }
+
+    private static List<String> extractUnivText(String jsonResponse) {
+        JSONObject responseJson = new JSONObject(jsonResponse);
+        JSONArray images = responseJson.getJSONArray("images");
+        Pattern pattern = Pattern.compile(".*?대학교");
+        return IntStream.range(0, images.length())
+                .mapToObj(images::getJSONObject)
+                .flatMap(image -> {
+                    JSONArray fields = image.getJSONArray("fields");
+                    return IntStream.range(0, fields.length())
+                            .mapToObj(fields::getJSONObject);
+                })
+                .map(field -> field.getString("inferText"))
+                .filter(inferText -> pattern.matcher(inferText).find())
+                .map(inferText -> {
+                    Matcher matcher = pattern.matcher(inferText);
+                    if (matcher.find()) {
+                        return matcher.group();
+                    }
+                    return inferText;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static String extractTextByKey(String jsonResponse, String key) {
+        JSONObject jsonObject = new JSONObject(jsonResponse);
+        JSONArray imagesArray = jsonObject.getJSONArray("images");
+
+        return IntStream.range(0, imagesArray.length())
+                .mapToObj(imagesArray::getJSONObject)
+                .filter(imageObject -> imageObject.has("nameCard"))
+                .map(imageObject -> imageObject.getJSONObject("nameCard"))
+                .filter(nameCard -> nameCard.has("result"))
+                .map(nameCard -> nameCard.getJSONObject("result"))
+                .filter(result -> result.has(key))
+                .flatMap(result -> {
+                    JSONArray textArray = result.getJSONArray(key);
+                    return IntStream.range(0, textArray.length())
+                            .mapToObj(textArray::getJSONObject);
+                })
+                .map(textObject -> textObject.getString("text"))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String extractInferResult(String jsonResponse) {
+        JSONObject responseJson = new JSONObject(jsonResponse);
+        JSONArray images = responseJson.getJSONArray("images");
+
+        return IntStream.range(0, images.length())
+                .mapToObj(images::getJSONObject)
+                .map(image -> image.getString("inferResult"))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -2,21 +2,27 @@ package org.sopt.seonyakServer.domain.appointment.controller;
 
 
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentAcceptRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentDetailResponse;
+import org.sopt.seonyakServer.domain.appointment.dto.AppointmentPageResponse;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRejectRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentResponse;
 import org.sopt.seonyakServer.domain.appointment.dto.GoogleMeetLinkResponse;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
 import org.sopt.seonyakServer.domain.appointment.service.AppointmentService;
+import org.sopt.seonyakServer.global.common.idempotency.IdempotencyHandler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,28 +31,35 @@ import org.springframework.web.bind.annotation.RestController;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final IdempotencyHandler idempotencyHandler;
 
     @PostMapping("/appointment")
     public ResponseEntity<Void> postAppointment(
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) final String idempotencyKey,
             @RequestBody AppointmentRequest appointmentRequest
     ) {
-        appointmentService.postAppointment(appointmentRequest);
+        idempotencyHandler.execute(idempotencyKey, "appointment-post", appointmentRequest,
+                () -> appointmentService.postAppointment(appointmentRequest));
         return ResponseEntity.ok().build();
     }
 
     @PatchMapping("/appointment/accept")
     public ResponseEntity<Void> acceptAppointment(
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) final String idempotencyKey,
             @Valid @RequestBody AppointmentAcceptRequest appointmentAcceptRequest
     ) {
-        appointmentService.acceptAppointment(appointmentAcceptRequest);
+        idempotencyHandler.execute(idempotencyKey, "appointment-accept", appointmentAcceptRequest,
+                () -> appointmentService.acceptAppointment(appointmentAcceptRequest));
         return ResponseEntity.ok().build();
     }
 
     @PatchMapping("/appointment/reject")
     public ResponseEntity<Void> rejectAppointment(
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) final String idempotencyKey,
             @Valid @RequestBody AppointmentRejectRequest appointmentRejectRequest
     ) {
-        appointmentService.rejectAppointment(appointmentRejectRequest);
+        idempotencyHandler.execute(idempotencyKey, "appointment-reject", appointmentRejectRequest,
+                () -> appointmentService.rejectAppointment(appointmentRejectRequest));
         return ResponseEntity.ok().build();
     }
 
@@ -62,6 +75,15 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAppointment());
     }
 
+    @GetMapping("/appointment/page")
+    public ResponseEntity<AppointmentPageResponse> getAppointmentPage(
+            @RequestParam final List<AppointmentStatus> status,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "10") final int size
+    ) {
+        return ResponseEntity.ok(appointmentService.getAppointmentPage(status, cursor, size));
+    }
+
     @GetMapping("/appointment/{appointmentId}")
     public ResponseEntity<AppointmentDetailResponse> getAppointmentDetail(
             @PathVariable final Long appointmentId
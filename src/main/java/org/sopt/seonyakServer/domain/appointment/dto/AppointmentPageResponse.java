@@ -0,0 +1,24 @@
+package org.sopt.seonyakServer.domain.appointment.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCard;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AppointmentPageResponse(
+        List<AppointmentCard> appointmentList,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static AppointmentPageResponse of(
+            final List<AppointmentCard> appointmentList,
+            final String nextCursor,
+            final boolean hasNext
+    ) {
+        return new AppointmentPageResponse(
+                appointmentList,
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package org.sopt.seonyakServer.domain.appointment.event;
+
+// 약속이 진행 중(PENDING, SCHEDULED)에서 벗어났을 때 발행
+public record AppointmentClosedEvent(
+        Long memberId,
+        Long seniorId
+) {
+    public static AppointmentClosedEvent of(final Long memberId, final Long seniorId) {
+        return new AppointmentClosedEvent(memberId, seniorId);
+    }
+}
@@ -0,0 +1,11 @@
+package org.sopt.seonyakServer.domain.appointment.event;
+
+// 약속이 수락되어 확정(SCHEDULED)되었을 때 발행
+public record AppointmentScheduledEvent(
+        Long memberId,
+        Long seniorId
+) {
+    public static AppointmentScheduledEvent of(final Long memberId, final Long seniorId) {
+        return new AppointmentScheduledEvent(memberId, seniorId);
+    }
+}
@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -26,7 +28,12 @@ import org.sopt.seonyakServer.global.common.model.BaseTimeEntity;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "appointment")
+@Table(name = "appointment", indexes = {
+        @Index(name = "idx_appointment_member_status_created",
+                columnList = "member_id, appointment_status, created_at"),
+        @Index(name = "idx_appointment_senior_status_created",
+                columnList = "senior_id, appointment_status, created_at")
+})
 public class Appointment extends BaseTimeEntity {
 
     @Id
@@ -66,6 +73,11 @@ public class Appointment extends BaseTimeEntity {
     @Column(name = "reject_detail")
     private String rejectDetail;
 
+    // 수락/거절/종료가 동시에 들어오는 경우를 막기 위한 낙관적 락 (기존 행은 0부터 시작)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @Builder
     private Appointment(
             Member member,
@@ -102,8 +114,4 @@ public class Appointment extends BaseTimeEntity {
         this.rejectDetail = rejectDetail;
         this.appointmentStatus = appointmentStatus;
     }
-
-    public void setAppointmentPast() {
-        this.appointmentStatus = AppointmentStatus.PAST;
-    }
 }
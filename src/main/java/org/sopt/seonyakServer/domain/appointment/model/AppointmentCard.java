@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.sopt.seonyakServer.global.common.external.s3.ProfileThumbnail;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,6 +32,9 @@ public class AppointmentCard implements Comparable<AppointmentCard> {
     private String startTime;
     private String endTime;
 
+    @JsonIgnore
+    private boolean thumbnailReady;
+
     @JsonIgnore
     private LocalDateTime createdAt;
 
@@ -44,6 +48,7 @@ public class AppointmentCard implements Comparable<AppointmentCard> {
             Long seniorId,
             String nickname,
             String image,
+            boolean thumbnailReady,
             String field,
             String department,
             List<String> topic,
@@ -63,6 +68,7 @@ public class AppointmentCard implements Comparable<AppointmentCard> {
         this.seniorId = seniorId;
         this.nickname = nickname;
         this.image = image;
+        this.thumbnailReady = thumbnailReady;
         this.field = field;
         this.department = department;
         this.topic = topic;
@@ -78,6 +84,11 @@ public class AppointmentCard implements Comparable<AppointmentCard> {
         this.updatedAt = updatedAt;
     }
 
+    // 약속 카드의 프로필은 96px 썸네일 사용 (썸네일 생성이 끝나기 전에는 원본)
+    public String getThumbnailImage() {
+        return thumbnailReady ? ProfileThumbnail.url(image, ProfileThumbnail.SMALL) : image;
+    }
+
     @Override
     public int compareTo(AppointmentCard other) {
         // 날짜(date)를 기준으로 비교
@@ -0,0 +1,39 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+
+// 마지막으로 내려준 약속의 (createdAt, id)를 불투명한 문자열 토큰으로 주고받음
+public record AppointmentCursor(
+        LocalDateTime createdAt,
+        Long appointmentId
+) {
+    private static final String DELIMITER = "_";
+
+    public static AppointmentCursor of(final AppointmentCard appointmentCard) {
+        return new AppointmentCursor(appointmentCard.getCreatedAt(), appointmentCard.getAppointmentId());
+    }
+
+    // 첫 페이지 요청이면 null
+    public static AppointmentCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new AppointmentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR_ERROR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + appointmentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
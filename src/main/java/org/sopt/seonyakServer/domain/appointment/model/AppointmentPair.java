@@ -0,0 +1,10 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+public record AppointmentPair(
+        Long memberId,
+        Long seniorId
+) {
+    public String key() {
+        return memberId + ":" + seniorId;
+    }
+}
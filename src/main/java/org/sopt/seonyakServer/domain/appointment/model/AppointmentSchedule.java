@@ -0,0 +1,12 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+import java.util.List;
+
+// appointment_slot 생성에 필요한 값만 담은 약속 (엔티티를 읽지 않음)
+public record AppointmentSchedule(
+        Long appointmentId,
+        Long memberId,
+        Long seniorId,
+        List<DateTimeRange> timeList
+) {
+}
@@ -0,0 +1,94 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// time_list의 각 시간을 timestamptz로 풀어 둔 테이블 (시간 범위 조회를 JSON 파싱 없이 인덱스로 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "appointment_slot", indexes = {
+        @Index(name = "idx_appointment_slot_appointment", columnList = "appointment_id"),
+        @Index(name = "idx_appointment_slot_member_start", columnList = "member_id, start_at"),
+        @Index(name = "idx_appointment_slot_senior_start", columnList = "senior_id, start_at"),
+        @Index(name = "idx_appointment_slot_end", columnList = "end_at")
+})
+public class AppointmentSlot {
+
+    // time_list의 문자열 시간은 한국 시간 기준
+    public static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "appointment_id", referencedColumnName = "id", nullable = false)
+    private Appointment appointment;
+
+    // 후배/선배 기준 다가오는 약속 조회를 조인 없이 인덱스로 처리하기 위해 함께 저장
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "senior_id", nullable = false)
+    private Long seniorId;
+
+    @Column(name = "start_at", nullable = false)
+    private Instant startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private Instant endAt;
+
+    @Builder
+    private AppointmentSlot(
+            Appointment appointment,
+            Long memberId,
+            Long seniorId,
+            Instant startAt,
+            Instant endAt
+    ) {
+        this.appointment = appointment;
+        this.memberId = memberId;
+        this.seniorId = seniorId;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    // 형식이 맞지 않거나 시작이 종료보다 늦은 시간은 null 반환
+    public static AppointmentSlot of(
+            final Appointment appointment,
+            final Long memberId,
+            final Long seniorId,
+            final DateTimeRange dateTimeRange
+    ) {
+        LocalDateTime start = dateTimeRange.toStartDateTime();
+        LocalDateTime end = dateTimeRange.toEndDateTime();
+        if (start == null || end == null || !start.isBefore(end)) {
+            return null;
+        }
+
+        return AppointmentSlot.builder()
+                .appointment(appointment)
+                .memberId(memberId)
+                .seniorId(seniorId)
+                .startAt(start.atZone(ZONE_ID).toInstant())
+                .endAt(end.atZone(ZONE_ID).toInstant())
+                .build();
+    }
+}
@@ -1,5 +1,10 @@
 package org.sopt.seonyakServer.domain.appointment.model;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -11,7 +16,36 @@ import lombok.Setter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode
 public class DateTimeRange {
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm");
+
     private String date;
     private String startTime;
     private String endTime;
+
+    // 형식이 맞지 않는 값은 null 반환
+    public LocalDateTime toStartDateTime() {
+        return toDateTime(startTime);
+    }
+
+    public LocalDateTime toEndDateTime() {
+        return toDateTime(endTime);
+    }
+
+    private LocalDateTime toDateTime(String time) {
+        if (date == null || time == null) {
+            return null;
+        }
+
+        try {
+            LocalDate localDate = LocalDate.parse(date.trim());
+            String trimmedTime = time.trim();
+            // 자정에 끝나는 약속은 다음 날 00:00으로 처리
+            if (trimmedTime.equals("24:00")) {
+                return localDate.plusDays(1).atStartOfDay();
+            }
+            return localDate.atTime(LocalTime.parse(trimmedTime, TIME_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
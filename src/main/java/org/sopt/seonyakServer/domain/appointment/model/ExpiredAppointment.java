@@ -0,0 +1,9 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+// 종료 시각이 지난 확정 약속의 id와 참여자 (time_list를 읽지 않음)
+public record ExpiredAppointment(
+        Long appointmentId,
+        Long memberId,
+        Long seniorId
+) {
+}
@@ -0,0 +1,114 @@
+package org.sopt.seonyakServer.domain.appointment.model;
+
+import java.util.Arrays;
+
+/**
+ * 반열린 구간 [start, end)들을 정렬/병합해 둔 불변 집합.
+ * 겹치는 구간은 하나로 합쳐 두므로 겹침/포함 여부를 이진 탐색 한 번(O(log n))으로 판단함.
+ * 만들어진 뒤에는 바뀌지 않으므로 여러 스레드에서 그대로 공유해도 됨.
+ */
+public final class IntervalSet {
+
+    public static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+
+    private IntervalSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    // [start, end)와 겹치는 구간이 하나라도 있는지
+    public boolean overlaps(long start, long end) {
+        int index = lastStartBefore(end);
+        return index >= 0 && ends[index] > start;
+    }
+
+    // [start, end)가 하나의 구간 안에 완전히 들어가는지
+    public boolean covers(long start, long end) {
+        int index = lastStartBefore(start + 1);
+        return index >= 0 && ends[index] >= end;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    // starts[i] < value 인 가장 큰 i (없으면 -1)
+    private int lastStartBefore(long value) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    public static final class Builder {
+        private long[] starts;
+        private long[] ends;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 4);
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+        }
+
+        // 비어 있는 구간(start >= end)은 무시
+        public Builder add(long start, long end) {
+            if (start >= end) {
+                return this;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+            return this;
+        }
+
+        public IntervalSet build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            // 시작 시각 기준으로 정렬한 뒤 겹치거나 맞닿은 구간을 합침
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+
+            long[] mergedStarts = new long[size];
+            long[] mergedEnds = new long[size];
+            int merged = 0;
+            for (int i : order) {
+                if (merged > 0 && starts[i] <= mergedEnds[merged - 1]) {
+                    mergedEnds[merged - 1] = Math.max(mergedEnds[merged - 1], ends[i]);
+                } else {
+                    mergedStarts[merged] = starts[i];
+                    mergedEnds[merged] = ends[i];
+                    merged++;
+                }
+            }
+            return new IntervalSet(Arrays.copyOf(mergedStarts, merged), Arrays.copyOf(mergedEnds, merged));
+        }
+    }
+}
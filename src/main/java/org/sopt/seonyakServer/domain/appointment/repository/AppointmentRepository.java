@@ -1,28 +1,69 @@
 package org.sopt.seonyakServer.domain.appointment.repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.sopt.seonyakServer.domain.appointment.model.Appointment;
 import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
-import org.sopt.seonyakServer.domain.member.model.Member;
-import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, AppointmentRepositoryCustom {
 
     Optional<Appointment> findAppointmentById(Long id);
 
-    Optional<Appointment> findAppointmentByMemberIdAndSeniorIdAndAppointmentStatusIn(Long memberId, Long seniorId,
-                                                                                     List<AppointmentStatus> statuses);
+    boolean existsByMemberIdAndSeniorIdAndAppointmentStatusIn(Long memberId, Long seniorId,
+                                                              List<AppointmentStatus> statuses);
+
+    // 후배가 진행 중인 약속을 가진 선배 ID만 한 번에 조회
+    @Query("SELECT DISTINCT a.senior.id FROM Appointment a "
+            + "WHERE a.member.id = :memberId "
+            + "AND a.senior.id IN :seniorIds "
+            + "AND a.appointmentStatus IN :statuses")
+    List<Long> findSeniorIdsByMemberIdAndSeniorIdInAndAppointmentStatusIn(
+            @Param("memberId") Long memberId,
+            @Param("seniorIds") Collection<Long> seniorIds,
+            @Param("statuses") List<AppointmentStatus> statuses
+    );
+
+    // 약속 행을 잠가 같은 약속의 appointment_slot 교체/백필을 순서대로 실행시킴 (삭제된 약속이면 빈 값)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM Appointment a WHERE a.id = :id")
+    Optional<Long> lockAppointmentById(@Param("id") Long id);
+
+    // 아직 status 상태인 약속만 잠그고 참여자를 조회 (잠근 행은 같은 트랜잭션의 UPDATE에서 반드시 변경됨)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment("
+            + "a.id, a.member.id, a.senior.id) "
+            + "FROM Appointment a "
+            + "WHERE a.id IN :ids AND a.appointmentStatus = :status")
+    List<ExpiredAppointment> lockExpiredAppointmentsByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") AppointmentStatus status
+    );
+
+    // 현재 상태가 기대한 상태인 약속만 한 번에 변경 (변경된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Appointment a "
+            + "SET a.appointmentStatus = :next, a.version = a.version + 1, a.updatedAt = :now "
+            + "WHERE a.id IN :ids AND a.appointmentStatus = :current")
+    int updateAppointmentStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("current") AppointmentStatus current,
+            @Param("next") AppointmentStatus next,
+            @Param("now") LocalDateTime now
+    );
 
     default Appointment findAppointmentByIdOrThrow(Long id) {
         return findAppointmentById(id)
                 .orElseThrow(() -> new CustomException(ErrorType.NOT_FOUND_APPOINTMENT_ERROR));
     }
-
-    List<Appointment> findAllAppointmentByMember(Member member);
-
-    List<Appointment> findAllAppointmentBySenior(Senior senior);
 }
@@ -0,0 +1,36 @@
+package org.sopt.seonyakServer.domain.appointment.repository;
+
+import java.time.Instant;
+import java.util.List;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCard;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCursor;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentPair;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSchedule;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment;
+
+public interface AppointmentRepositoryCustom {
+    List<AppointmentCard> findAppointmentCardsByMemberId(Long memberId);
+
+    List<AppointmentCard> findAppointmentCardsBySeniorId(Long seniorId);
+
+    List<AppointmentCard> findAppointmentCardPageByMemberId(
+            Long memberId,
+            List<AppointmentStatus> statuses,
+            AppointmentCursor cursor,
+            int size
+    );
+
+    List<AppointmentCard> findAppointmentCardPageBySeniorId(
+            Long seniorId,
+            List<AppointmentStatus> statuses,
+            AppointmentCursor cursor,
+            int size
+    );
+
+    List<AppointmentPair> findAppointmentPairsByStatusIn(List<AppointmentStatus> statuses);
+
+    List<ExpiredAppointment> findExpiredAppointmentsAfterId(Instant now, Long lastId, int size);
+
+    List<AppointmentSchedule> findAppointmentSchedulesWithoutSlotAfterId(Long lastId, int size);
+}
@@ -0,0 +1,273 @@
+package org.sopt.seonyakServer.domain.appointment.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCard;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCursor;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentPair;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSchedule;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.model.DateTimeRange;
+import org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment;
+import org.sopt.seonyakServer.domain.appointment.model.QAppointment;
+import org.sopt.seonyakServer.domain.appointment.model.QAppointmentSlot;
+import org.sopt.seonyakServer.domain.member.model.QMember;
+import org.sopt.seonyakServer.domain.senior.model.QSenior;
+
+public class AppointmentRepositoryImpl implements AppointmentRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QAppointment appointment = QAppointment.appointment;
+    private final QSenior senior = QSenior.senior;
+    private final QMember member = QMember.member;
+    private final QAppointmentSlot appointmentSlot = QAppointmentSlot.appointmentSlot;
+
+    public AppointmentRepositoryImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    // 후배 입장의 약속 카드 목록 (상대방인 선배 정보를 한 번의 조인으로 조회)
+    @Override
+    public List<AppointmentCard> findAppointmentCardsByMemberId(Long memberId) {
+        return selectJuniorCards()
+                .where(appointment.member.id.eq(memberId))
+                .fetch()
+                .stream()
+                .map(this::toJuniorCard)
+                .toList();
+    }
+
+    // 선배 입장의 약속 카드 목록 (상대방인 후배 정보를 한 번의 조인으로 조회)
+    @Override
+    public List<AppointmentCard> findAppointmentCardsBySeniorId(Long seniorId) {
+        return selectSeniorCards()
+                .where(appointment.senior.id.eq(seniorId))
+                .fetch()
+                .stream()
+                .map(this::toSeniorCard)
+                .toList();
+    }
+
+    // (member_id, appointment_status, created_at) 인덱스를 타도록 상태 필터 후 createdAt, id 기준 내림차순 커서 조회
+    @Override
+    public List<AppointmentCard> findAppointmentCardPageByMemberId(
+            Long memberId,
+            List<AppointmentStatus> statuses,
+            AppointmentCursor cursor,
+            int size
+    ) {
+        return selectJuniorCards()
+                .where(appointment.member.id.eq(memberId),
+                        appointment.appointmentStatus.in(statuses),
+                        createCursorCondition(cursor))
+                .orderBy(appointment.createdAt.desc(), appointment.id.desc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(this::toJuniorCard)
+                .toList();
+    }
+
+    @Override
+    public List<AppointmentCard> findAppointmentCardPageBySeniorId(
+            Long seniorId,
+            List<AppointmentStatus> statuses,
+            AppointmentCursor cursor,
+            int size
+    ) {
+        return selectSeniorCards()
+                .where(appointment.senior.id.eq(seniorId),
+                        appointment.appointmentStatus.in(statuses),
+                        createCursorCondition(cursor))
+                .orderBy(appointment.createdAt.desc(), appointment.id.desc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(this::toSeniorCard)
+                .toList();
+    }
+
+    // 엔티티를 읽지 않고 (member_id, senior_id)만 조회
+    @Override
+    public List<AppointmentPair> findAppointmentPairsByStatusIn(List<AppointmentStatus> statuses) {
+        return queryFactory
+                .select(Projections.constructor(AppointmentPair.class,
+                        appointment.member.id,
+                        appointment.senior.id))
+                .from(appointment)
+                .where(appointment.appointmentStatus.in(statuses))
+                .fetch();
+    }
+
+    // appointment_slot.end_at으로 모든 시간이 now 이전에 끝난 확정 약속을 찾음 (time_list JSON을 읽지 않음)
+    @Override
+    public List<ExpiredAppointment> findExpiredAppointmentsAfterId(Instant now, Long lastId, int size) {
+        QAppointmentSlot laterSlot = new QAppointmentSlot("laterSlot");
+
+        return queryFactory
+                .select(Projections.constructor(ExpiredAppointment.class,
+                        appointment.id,
+                        appointmentSlot.memberId,
+                        appointmentSlot.seniorId))
+                .distinct()
+                .from(appointmentSlot)
+                .join(appointmentSlot.appointment, appointment)
+                .where(appointmentSlot.endAt.lt(now),
+                        appointment.appointmentStatus.eq(AppointmentStatus.SCHEDULED),
+                        lastId == null ? null : appointment.id.gt(lastId),
+                        JPAExpressions.selectOne()
+                                .from(laterSlot)
+                                .where(laterSlot.appointment.id.eq(appointment.id),
+                                        laterSlot.endAt.goe(now))
+                                .notExists())
+                .orderBy(appointment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // appointment_slot으로 옮겨지지 않은 약속을 id 기준 키셋 페이징으로 조회
+    @Override
+    public List<AppointmentSchedule> findAppointmentSchedulesWithoutSlotAfterId(Long lastId, int size) {
+        return selectSchedules()
+                .where(lastId == null ? null : appointment.id.gt(lastId),
+                        JPAExpressions.selectOne()
+                                .from(appointmentSlot)
+                                .where(appointmentSlot.appointment.id.eq(appointment.id))
+                                .notExists())
+                .orderBy(appointment.id.asc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(this::toSchedule)
+                .toList();
+    }
+
+    private JPAQuery<Tuple> selectSchedules() {
+        return queryFactory
+                .select(appointment.id,
+                        appointment.member.id,
+                        appointment.senior.id,
+                        appointment.timeList)
+                .from(appointment);
+    }
+
+    private JPAQuery<Tuple> selectJuniorCards() {
+        return queryFactory
+                .select(appointment.id,
+                        appointment.appointmentStatus,
+                        appointment.timeList,
+                        appointment.createdAt,
+                        appointment.updatedAt,
+                        senior.id,
+                        senior.company,
+                        senior.position,
+                        senior.detailPosition,
+                        senior.level,
+                        member.nickname,
+                        member.image,
+                        member.thumbnailReady,
+                        member.field)
+                .from(appointment)
+                .join(appointment.senior, senior)
+                .join(senior.member, member);
+    }
+
+    private JPAQuery<Tuple> selectSeniorCards() {
+        return queryFactory
+                .select(appointment.id,
+                        appointment.appointmentStatus,
+                        appointment.timeList,
+                        appointment.topic,
+                        appointment.personalTopic,
+                        appointment.createdAt,
+                        appointment.updatedAt,
+                        member.nickname,
+                        member.image,
+                        member.thumbnailReady,
+                        member.field,
+                        member.departmentList)
+                .from(appointment)
+                .join(appointment.member, member);
+    }
+
+    private AppointmentSchedule toSchedule(Tuple row) {
+        return new AppointmentSchedule(
+                row.get(appointment.id),
+                row.get(appointment.member.id),
+                row.get(appointment.senior.id),
+                row.get(appointment.timeList));
+    }
+
+    private AppointmentCard toJuniorCard(Tuple row) {
+        AppointmentStatus status = row.get(appointment.appointmentStatus);
+        DateTimeRange dateTimeRange = getScheduledTime(status, row.get(appointment.timeList));
+
+        return AppointmentCard.builder()
+                .appointmentId(row.get(appointment.id))
+                .appointmentStatus(status)
+                .seniorId(row.get(senior.id))
+                .nickname(row.get(member.nickname))
+                .image(row.get(member.image))
+                .thumbnailReady(Boolean.TRUE.equals(row.get(member.thumbnailReady)))
+                .field(row.get(member.field))
+                .company(row.get(senior.company))
+                .position(row.get(senior.position))
+                .detailPosition(row.get(senior.detailPosition))
+                .level(row.get(senior.level))
+                .date(dateTimeRange == null ? null : dateTimeRange.getDate())
+                .startTime(dateTimeRange == null ? null : dateTimeRange.getStartTime())
+                .endTime(dateTimeRange == null ? null : dateTimeRange.getEndTime())
+                .createdAt(row.get(appointment.createdAt))
+                .updatedAt(row.get(appointment.updatedAt))
+                .build();
+    }
+
+    private AppointmentCard toSeniorCard(Tuple row) {
+        AppointmentStatus status = row.get(appointment.appointmentStatus);
+        DateTimeRange dateTimeRange = getScheduledTime(status, row.get(appointment.timeList));
+        List<String> departmentList = row.get(member.departmentList);
+
+        // 지난 약속, 거절된 약속은 고민 내용을 내려주지 않음
+        boolean hideTopic = status.isPastOrRejected();
+
+        return AppointmentCard.builder()
+                .appointmentId(row.get(appointment.id))
+                .appointmentStatus(status)
+                .nickname(row.get(member.nickname))
+                .image(row.get(member.image))
+                .thumbnailReady(Boolean.TRUE.equals(row.get(member.thumbnailReady)))
+                .field(row.get(member.field))
+                .department(departmentList == null || departmentList.isEmpty() ? null : departmentList.get(0))
+                .topic(hideTopic ? null : row.get(appointment.topic))
+                .personalTopic(hideTopic ? null : row.get(appointment.personalTopic))
+                .date(dateTimeRange == null ? null : dateTimeRange.getDate())
+                .startTime(dateTimeRange == null ? null : dateTimeRange.getStartTime())
+                .endTime(dateTimeRange == null ? null : dateTimeRange.getEndTime())
+                .createdAt(row.get(appointment.createdAt))
+                .updatedAt(row.get(appointment.updatedAt))
+                .build();
+    }
+
+    // 확정된 약속, 지난 약속만 시간 정보를 내려줌
+    private DateTimeRange getScheduledTime(AppointmentStatus status, List<DateTimeRange> timeList) {
+        if (!status.isScheduledOrPast() || timeList == null || timeList.isEmpty()) {
+            return null;
+        }
+        return timeList.get(0);
+    }
+
+    // 첫 페이지인 경우 커서 조건 없음
+    private BooleanExpression createCursorCondition(AppointmentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return appointment.createdAt.lt(cursor.createdAt())
+                .or(appointment.createdAt.eq(cursor.createdAt()).and(appointment.id.lt(cursor.appointmentId())));
+    }
+}
@@ -0,0 +1,41 @@
+package org.sopt.seonyakServer.domain.appointment.repository;
+
+import java.time.Instant;
+import java.util.List;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSlot;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AppointmentSlotRepository extends JpaRepository<AppointmentSlot, Long> {
+
+    @Modifying
+    @Query("DELETE FROM AppointmentSlot s WHERE s.appointment.id = :appointmentId")
+    void deleteByAppointmentId(@Param("appointmentId") Long appointmentId);
+
+    // 약속에 슬롯이 하나도 없을 때만 추가 (그사이 신청/수락으로 슬롯이 만들어졌으면 0 반환)
+    @Modifying
+    @Query("INSERT INTO AppointmentSlot (appointment, memberId, seniorId, startAt, endAt) "
+            + "SELECT a, :memberId, :seniorId, :startAt, :endAt FROM Appointment a "
+            + "WHERE a.id = :appointmentId "
+            + "AND NOT EXISTS (SELECT 1 FROM AppointmentSlot s WHERE s.appointment.id = :appointmentId)")
+    int insertIfNoSlots(
+            @Param("appointmentId") Long appointmentId,
+            @Param("memberId") Long memberId,
+            @Param("seniorId") Long seniorId,
+            @Param("startAt") Instant startAt,
+            @Param("endAt") Instant endAt
+    );
+
+    // 선배 기준 from 이후에 끝나는 약속 시간 (senior_id, start_at) 인덱스 사용
+    @Query("SELECT s FROM AppointmentSlot s JOIN s.appointment a "
+            + "WHERE s.seniorId = :seniorId AND s.endAt > :from AND a.appointmentStatus IN :statuses "
+            + "ORDER BY s.startAt")
+    List<AppointmentSlot> findUpcomingSlotsBySeniorId(
+            @Param("seniorId") Long seniorId,
+            @Param("from") Instant from,
+            @Param("statuses") List<AppointmentStatus> statuses
+    );
+}
@@ -0,0 +1,130 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sopt.seonyakServer.domain.appointment.event.AppointmentClosedEvent;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentPair;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진행 중인 약속이 있는 (후배, 선배) 쌍을 담아두는 Redis Set.
+ * "약속 없음"인 대부분의 경우를 DB 조회 없이 판단하기 위한 용도로, Set에 있다고 나오면 DB로 다시 확인함.
+ * - 추가: 약속 신청 트랜잭션 안에서 커밋 전에 추가 (롤백되어 남는 값은 DB 재확인에서 걸러짐)
+ * - 삭제: 약속이 거절/종료된 트랜잭션 커밋 이후 삭제
+ * - 재구성: 기존 값을 지우지 않고 DB의 진행 중인 쌍을 합침 (아직 커밋되지 않은 신청이 넣어둔 쌍을 잃지 않도록)
+ * 추가에 실패하거나 Set이 아직 만들어지지 않은 경우에는 ready 플래그가 없으므로 항상 DB로 확인함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveAppointmentPairs {
+
+    private static final String SET_KEY = "appointment:active-pairs";
+    private static final String READY_KEY = "appointment:active-pairs:ready";
+    private static final String REBUILD_LOCK_KEY = "appointment:active-pairs:rebuild";
+    private static final List<AppointmentStatus> ACTIVE_STATUSES =
+            List.of(AppointmentStatus.PENDING, AppointmentStatus.SCHEDULED);
+
+    private final RedissonClient redissonClient;
+    private final AppointmentRepository appointmentRepository;
+
+    @Value("${appointment.active-pairs.enabled:true}")
+    private boolean enabled;
+
+    // false면 진행 중인 약속이 확실히 없음
+    public boolean mightExist(final Long memberId, final Long seniorId) {
+        if (!enabled) {
+            return true;
+        }
+        try {
+            return !readyFlag().isExists() || pairs().contains(new AppointmentPair(memberId, seniorId).key());
+        } catch (RuntimeException e) {
+            log.warn("Failed to read active appointment pairs", e);
+            return true;
+        }
+    }
+
+    public void add(final Long memberId, final Long seniorId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            pairs().add(new AppointmentPair(memberId, seniorId).key());
+        } catch (RuntimeException e) {
+            // 누락된 쌍이 생기면 "약속 없음"으로 잘못 판단할 수 있으므로 다시 만들 때까지 사용하지 않음
+            log.warn("Failed to add active appointment pair, disabling until rebuild", e);
+            readyFlag().delete();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void remove(AppointmentClosedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            pairs().remove(new AppointmentPair(event.memberId(), event.seniorId()).key());
+        } catch (RuntimeException e) {
+            // 남아 있는 쌍은 DB 재확인으로 걸러지므로 무시
+            log.warn("Failed to remove active appointment pair", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNotReady() {
+        if (!enabled || readyFlag().isExists()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(REBUILD_LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, 10, TimeUnit.MINUTES)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            // Set을 비우면 커밋 전에 add된 쌍이 지워진 뒤 DB 조회에도 보이지 않아 누락될 수 있으므로 합치기만 함.
+            // 커밋된 약속은 DB 조회로, 조회 이후 커밋되는 약속은 이미 해둔 add로 Set에 남아 있음
+            // (남아 있는 종료된 쌍은 DB 재확인으로 걸러짐)
+            RSet<String> pairs = pairs();
+            List<String> keys = appointmentRepository.findAppointmentPairsByStatusIn(ACTIVE_STATUSES).stream()
+                    .map(AppointmentPair::key)
+                    .toList();
+            if (!keys.isEmpty()) {
+                pairs.addAll(keys);
+            }
+            readyFlag().set("1");
+            log.info("Active appointment pairs loaded - {} pairs", keys.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild active appointment pairs", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RSet<String> pairs() {
+        return redissonClient.getSet(SET_KEY, StringCodec.INSTANCE);
+    }
+
+    private RBucket<String> readyFlag() {
+        return redissonClient.getBucket(READY_KEY, StringCodec.INSTANCE);
+    }
+}
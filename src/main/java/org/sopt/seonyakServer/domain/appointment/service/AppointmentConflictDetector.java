@@ -0,0 +1,153 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.sopt.seonyakServer.domain.appointment.event.AppointmentClosedEvent;
+import org.sopt.seonyakServer.domain.appointment.event.AppointmentScheduledEvent;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSlot;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.model.DateTimeRange;
+import org.sopt.seonyakServer.domain.appointment.model.IntervalSet;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentSlotRepository;
+import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.sopt.seonyakServer.domain.senior.model.WeeklyTimeSlots;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 약속 시간 충돌 검사.
+ * - 선배의 확정된 약속 시간: 선배별 IntervalSet(epoch 초)으로 만들어 서버 메모리에 캐시, 수락/거절/종료 커밋 이후 모든 서버에서 비움
+ * - 선배의 선호 시간: 요일별 30분 칸 비트셋(WeeklyTimeSlots)에서 제안 시간이 걸치는 칸이 모두 켜져 있는지 확인
+ * 형식이 맞지 않아 해석할 수 없는 시간은 검사하지 않음.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentConflictDetector {
+
+    private static final String CACHE_NAME = "appointment.busy-slots";
+    private static final String INVALIDATION_TOPIC = "appointment:busy-slots:invalidation";
+
+    private final AppointmentSlotRepository appointmentSlotRepository;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${appointment.conflict-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Cache<Long, IntervalSet> busySlotCache;
+    private RTopic invalidationTopic;
+
+    @PostConstruct
+    protected void init() {
+        busySlotCache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, busySlotCache, CACHE_NAME);
+
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, LongCodec.INSTANCE);
+        invalidationTopic.addListener(Long.class, (channel, seniorId) -> busySlotCache.invalidate(seniorId));
+    }
+
+    // 약속 신청: 선배의 선호 시간 안인지, 이미 확정된 약속과 겹치지 않는지 확인
+    public void validateProposal(final Senior senior, final List<DateTimeRange> timeList) {
+        if (timeList == null || timeList.isEmpty()) {
+            return;
+        }
+        WeeklyTimeSlots preferred = senior.getPreferredTimeSlots();
+        IntervalSet busy = getBusySlots(senior.getId());
+
+        for (DateTimeRange dateTimeRange : timeList) {
+            if (dateTimeRange == null) {
+                continue;
+            }
+            LocalDateTime start = dateTimeRange.toStartDateTime();
+            LocalDateTime end = dateTimeRange.toEndDateTime();
+            if (start == null || end == null || !start.isBefore(end)) {
+                continue;
+            }
+
+            // 선호 시간을 하나도 해석할 수 없는 선배는 선호 시간 검사를 하지 않음
+            int startMinute = start.getHour() * 60 + start.getMinute();
+            int endMinute = startMinute + (int) Duration.between(start, end).toMinutes();
+            if (!preferred.isEmpty() && !preferred.covers(start.getDayOfWeek(), startMinute, endMinute)) {
+                throw new CustomException(ErrorType.NOT_PREFERRED_TIME_ERROR);
+            }
+            if (busy.overlaps(toEpochSecond(start), toEpochSecond(end))) {
+                throw new CustomException(ErrorType.APPOINTMENT_TIME_CONFLICT_ERROR);
+            }
+        }
+    }
+
+    // 약속 수락: 확정 직전이므로 캐시를 거치지 않고 DB 기준으로 확인
+    // 호출하는 쪽에서 선배 행을 잠근 트랜잭션 안에서 불러야 동시에 수락된 약속과 겹치지 않음이 보장됨
+    public void validateAccept(final Long seniorId, final List<DateTimeRange> timeList) {
+        IntervalSet busy = loadBusySlots(seniorId);
+
+        for (DateTimeRange dateTimeRange : timeList) {
+            if (dateTimeRange == null) {
+                continue;
+            }
+            LocalDateTime start = dateTimeRange.toStartDateTime();
+            LocalDateTime end = dateTimeRange.toEndDateTime();
+            if (start != null && end != null && busy.overlaps(toEpochSecond(start), toEpochSecond(end))) {
+                throw new CustomException(ErrorType.APPOINTMENT_TIME_CONFLICT_ERROR);
+            }
+        }
+    }
+
+    public IntervalSet getBusySlots(final Long seniorId) {
+        return busySlotCache.get(seniorId, this::loadBusySlots);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(AppointmentScheduledEvent event) {
+        evict(event.seniorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(AppointmentClosedEvent event) {
+        evict(event.seniorId());
+    }
+
+    private void evict(Long seniorId) {
+        busySlotCache.invalidate(seniorId);
+        try {
+            invalidationTopic.publish(seniorId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish busy slot invalidation - seniorId: {}", seniorId, e);
+        }
+    }
+
+    // 이미 끝난 약속은 새 시간과 겹칠 수 없으므로 아직 끝나지 않은 확정 약속만 읽음
+    private IntervalSet loadBusySlots(Long seniorId) {
+        List<AppointmentSlot> slots = appointmentSlotRepository.findUpcomingSlotsBySeniorId(
+                seniorId, Instant.now(), List.of(AppointmentStatus.SCHEDULED));
+
+        IntervalSet.Builder builder = IntervalSet.builder(slots.size());
+        slots.forEach(slot -> builder.add(slot.getStartAt().getEpochSecond(), slot.getEndAt().getEpochSecond()));
+        return builder.build();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(AppointmentSlot.ZONE_ID).toEpochSecond();
+    }
+}
@@ -0,0 +1,84 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 종료 시각이 지난 SCHEDULED 약속을 주기적으로 PAST로 옮김 (여러 서버 중 락을 잡은 한 대만 실행)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentExpirationScheduler {
+
+    private static final String LOCK_KEY = "appointment:expiration";
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentService appointmentService;
+    private final RedissonClient redissonClient;
+
+    @Value("${appointment.expiration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${appointment.expiration.lock-lease-minutes:5}")
+    private long lockLeaseMinutes;
+
+    @Scheduled(fixedDelayString = "${appointment.expiration.delay-millis:60000}") // 이전 실행이 끝나고 1분 후 실행
+    public void expire() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            // 다른 서버가 실행 중이면 기다리지 않고 이번 주기는 건너뜀
+            if (!lock.tryLock(0, lockLeaseMinutes, TimeUnit.MINUTES)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire appointment expiration lock", e);
+            return;
+        }
+
+        try {
+            int expired = expireAll(Instant.now());
+            if (expired > 0) {
+                log.info("Appointments moved to PAST - {}", expired);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to expire appointments", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 끝난 약속만 appointment_slot.end_at 인덱스로 찾고, 청크마다 짧은 트랜잭션으로 나눠 UPDATE
+    private int expireAll(final Instant now) {
+        int expired = 0;
+        Long lastId = null;
+
+        while (true) {
+            List<ExpiredAppointment> expiredAppointments =
+                    appointmentRepository.findExpiredAppointmentsAfterId(now, lastId, chunkSize);
+            if (expiredAppointments.isEmpty()) {
+                return expired;
+            }
+
+            expired += appointmentService.expireAppointments(expiredAppointments);
+
+            if (expiredAppointments.size() < chunkSize) {
+                return expired;
+            }
+            lastId = expiredAppointments.get(expiredAppointments.size() - 1).appointmentId();
+        }
+    }
+}
@@ -1,36 +1,41 @@
 package org.sopt.seonyakServer.domain.appointment.service;
 
-import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
-import net.nurigo.sdk.NurigoApp;
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
-import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentAcceptRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentDetailResponse;
+import org.sopt.seonyakServer.domain.appointment.dto.AppointmentPageResponse;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRejectRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRequest;
 import org.sopt.seonyakServer.domain.appointment.dto.AppointmentResponse;
 import org.sopt.seonyakServer.domain.appointment.dto.GoogleMeetLinkResponse;
+import org.sopt.seonyakServer.domain.appointment.event.AppointmentClosedEvent;
+import org.sopt.seonyakServer.domain.appointment.event.AppointmentScheduledEvent;
 import org.sopt.seonyakServer.domain.appointment.model.Appointment;
 import org.sopt.seonyakServer.domain.appointment.model.AppointmentCard;
 import org.sopt.seonyakServer.domain.appointment.model.AppointmentCardList;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCursor;
 import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
-import org.sopt.seonyakServer.domain.appointment.model.DateTimeRange;
+import org.sopt.seonyakServer.domain.appointment.model.ExpiredAppointment;
 import org.sopt.seonyakServer.domain.appointment.model.JuniorInfo;
 import org.sopt.seonyakServer.domain.appointment.model.SeniorInfo;
 import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
 import org.sopt.seonyakServer.domain.member.model.Member;
 import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.sopt.seonyakServer.domain.notice.service.NoticeMessageService;
 import org.sopt.seonyakServer.domain.senior.model.Senior;
 import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
 import org.sopt.seonyakServer.global.auth.PrincipalHandler;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,22 +47,15 @@ public class AppointmentService {
     private final SeniorRepository seniorRepository;
     private final MemberRepository memberRepository;
     private final PrincipalHandler principalHandler;
+    private final NoticeMessageService noticeMessageService;
+    private final ActiveAppointmentPairs activeAppointmentPairs;
+    private final AppointmentTransitionGuard appointmentTransitionGuard;
+    private final AppointmentSlotService appointmentSlotService;
+    private final AppointmentConflictDetector appointmentConflictDetector;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private DefaultMessageService defaultMessageService;
-
-    @Value("${coolsms.api.key}")
-    private String apiKey;
-
-    @Value("${coolsms.api.secret}")
-    private String apiSecret;
-
-    @Value("${coolsms.fromNumber}")
-    private String fromNumber;
-
-    @PostConstruct
-    public void init() {
-        this.defaultMessageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
-    }
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final String ACTIVE_PAIR_UNIQUE_INDEX = "uk_appointment_active_pair";
 
     @Transactional
     public void postAppointment(AppointmentRequest appointmentRequest) {
@@ -69,11 +67,6 @@ public class AppointmentService {
             throw new CustomException(ErrorType.SAME_MEMBER_APPOINTMENT_ERROR);
         }
 
-        // 이미 약속을 신청한 선배일 경우
-        if (isExistingAppointment(member.getId(), senior.getId())) {
-            throw new CustomException(ErrorType.INVALID_SAME_SENIOR);
-        }
-
         // 두 고민이 전부 넘어온 경우
         if ((appointmentRequest.topic() != null && !appointmentRequest.topic().isEmpty()) && (
                 appointmentRequest.personalTopic() != null && !appointmentRequest.personalTopic().isBlank())) {
@@ -86,6 +79,8 @@ public class AppointmentService {
             throw new CustomException(ErrorType.INVALID_NO_TOPIC_PROVIDED);
         }
 
+        appointmentConflictDetector.validateProposal(senior, appointmentRequest.timeList());
+
         Appointment appointment = Appointment.builder()
                 .member(member)
                 .senior(senior)
@@ -95,9 +90,20 @@ public class AppointmentService {
                 .personalTopic(appointmentRequest.personalTopic())
                 .build();
 
-        appointmentRepository.save(appointment);
+        // 이미 약속을 신청한 선배인지는 미리 조회하지 않고, 진행 중인 약속의 부분 유니크 인덱스로 막음
+        try {
+            appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isActivePairViolation(e)) {
+                throw new CustomException(ErrorType.INVALID_SAME_SENIOR);
+            }
+            throw e;
+        }
+        activeAppointmentPairs.add(member.getId(), senior.getId());
+        appointmentSlotService.replaceSlots(appointment);
 
-        sendNoticeMessage(
+        noticeMessageService.enqueue(
+                "APPOINTMENT_POSTED:" + appointment.getId(),
                 appointment.getSenior().getMember(),
                 "'" + appointment.getMember().getNickname() + "' 후배님이 약속을 신청하셨습니다."
         );
@@ -105,6 +111,7 @@ public class AppointmentService {
 
     @Transactional
     public void acceptAppointment(AppointmentAcceptRequest appointmentAcceptRequest) {
+        appointmentTransitionGuard.acquire(appointmentAcceptRequest.appointmentId());
         Appointment appointment = appointmentRepository.findAppointmentByIdOrThrow(
                 appointmentAcceptRequest.appointmentId()
         );
@@ -120,13 +127,24 @@ public class AppointmentService {
             throw new CustomException(ErrorType.NOT_AUTHORIZATION_ACCEPT);
         }
 
+        // 같은 선배의 다른 약속 수락이 검사와 확정 사이에 끼어들지 않도록 커밋까지 선배 행을 잠금
+        seniorRepository.lockSeniorById(appointment.getSenior().getId());
+        appointmentConflictDetector.validateAccept(
+                appointment.getSenior().getId(),
+                appointmentAcceptRequest.timeList()
+        );
+
         appointment.acceptAppointment(
                 appointmentAcceptRequest.timeList(),
                 appointmentAcceptRequest.googleMeetLink(),
                 AppointmentStatus.SCHEDULED
         );
+        appointmentSlotService.replaceSlots(appointment);
+        eventPublisher.publishEvent(
+                AppointmentScheduledEvent.of(appointment.getMember().getId(), appointment.getSenior().getId()));
 
-        sendNoticeMessage(
+        noticeMessageService.enqueue(
+                "APPOINTMENT_ACCEPTED:" + appointment.getId(),
                 appointment.getMember(),
                 "'" + appointment.getSenior().getMember().getNickname() + "' 선배님이 약속을 수락하셨습니다."
         );
@@ -134,6 +152,7 @@ public class AppointmentService {
 
     @Transactional
     public void rejectAppointment(AppointmentRejectRequest appointmentRejectRequest) {
+        appointmentTransitionGuard.acquire(appointmentRejectRequest.appointmentId());
         Appointment appointment = appointmentRepository.findAppointmentByIdOrThrow(
                 appointmentRejectRequest.appointmentId()
         );
@@ -154,24 +173,18 @@ public class AppointmentService {
                 appointmentRejectRequest.rejectDetail(),
                 AppointmentStatus.REJECTED
         );
+        eventPublisher.publishEvent(
+                AppointmentClosedEvent.of(appointment.getMember().getId(), appointment.getSenior().getId())
+        );
 
-        sendNoticeMessage(
+        noticeMessageService.enqueue(
+                "APPOINTMENT_REJECTED:" + appointment.getId(),
                 appointment.getMember(),
                 "'" + appointment.getSenior().getMember().getNickname() + "' 선배님이 약속을 거절하셨습니다."
         );
     }
 
-    public void sendNoticeMessage(Member member, String messageDetail) {
-        Message message = new Message();
-
-        message.setFrom(fromNumber);
-        message.setTo(member.getPhoneNumber());
-        message.setText("[선약] " + messageDetail);
-
-        this.defaultMessageService.sendOne(new SingleMessageSendingRequest(message));
-    }
-
-    @Transactional
+    @Transactional(readOnly = true)
     public GoogleMeetLinkResponse getGoogleMeetLink(Long appointmentId) {
         Long userId = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal()).getId();
 
@@ -189,7 +202,6 @@ public class AppointmentService {
             throw new CustomException(ErrorType.NOT_FOUND_GOOGLE_MEET_LINK_ERROR);
         }
 
-        appointment.setAppointmentPast();
         return GoogleMeetLinkResponse.of(googleMeetLink);
     }
 
@@ -198,90 +210,50 @@ public class AppointmentService {
 
         Member user = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal());
         AppointmentCardList appointmentCardList = new AppointmentCardList();
-        List<Appointment> appointmentList;
+        List<AppointmentCard> appointmentCards;
 
-        // User의 약속 리스트를 가져옴
+        // User의 약속 카드 리스트를 상대방 정보와 함께 한 번에 가져옴
         if (user.getSenior() == null) {
-            appointmentList = appointmentRepository.findAllAppointmentByMember(user);
+            appointmentCards = appointmentRepository.findAppointmentCardsByMemberId(user.getId());
         } else {
-            appointmentList = appointmentRepository.findAllAppointmentBySenior(user.getSenior());
+            appointmentCards = appointmentRepository.findAppointmentCardsBySeniorId(user.getSenior().getId());
         }
-        for (Appointment appointment : appointmentList) {
+        for (AppointmentCard appointmentCard : appointmentCards) {
             appointmentCardList.putAppointmentCardList(
-                    appointment.getAppointmentStatus(),
-                    createAppointmentCard(user, appointment)
+                    appointmentCard.getAppointmentStatus(),
+                    appointmentCard
             );
         }
 
         return AppointmentResponse.of(user.getNickname(), appointmentCardList);
     }
 
-    private AppointmentCard createAppointmentCard(Member user, Appointment appointment) {
-        // init
-        Long seniorId = null;
-        String nickname, image, field, department = null;
-        List<String> topic = null;
-        String personalTopic = null;
-        String company = null, position = null, detailPosition = null, level = null;
-        String date = null, startTime = null, endTime = null;
-
-        DateTimeRange dateTimeRange = appointment.getTimeList().get(0);
+    // 상태별 약속 목록을 커서 기반으로 페이지 단위 조회
+    @Transactional(readOnly = true)
+    public AppointmentPageResponse getAppointmentPage(
+            final List<AppointmentStatus> statuses,
+            final String cursor,
+            final int size
+    ) {
+        Member user = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal());
+        AppointmentCursor appointmentCursor = AppointmentCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        // 선배/후배에 따른 분기 처리
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<AppointmentCard> appointmentCards;
         if (user.getSenior() == null) {
-            Senior senior = appointment.getSenior();
-            Member seniorMember = senior.getMember();
-            seniorId = senior.getId();
-            nickname = seniorMember.getNickname();
-            image = seniorMember.getImage();
-            field = seniorMember.getField();
-            company = senior.getCompany();
-            position = senior.getPosition();
-            detailPosition = senior.getDetailPosition();
-            level = senior.getLevel();
+            appointmentCards = appointmentRepository.findAppointmentCardPageByMemberId(
+                    user.getId(), statuses, appointmentCursor, pageSize + 1);
         } else {
-            Member member = appointment.getMember();
-            nickname = member.getNickname();
-            image = member.getImage();
-            field = member.getField();
-            department = member.getDepartmentList().get(0);
-            topic = appointment.getTopic();
-            personalTopic = appointment.getPersonalTopic();
-        }
-
-        // 약속 상태에 따른 분기 처리
-        if (appointment.getAppointmentStatus().isScheduledOrPast()) {
-            date = dateTimeRange.getDate();
-            startTime = dateTimeRange.getStartTime();
-            endTime = dateTimeRange.getEndTime();
+            appointmentCards = appointmentRepository.findAppointmentCardPageBySeniorId(
+                    user.getSenior().getId(), statuses, appointmentCursor, pageSize + 1);
         }
 
-        if (appointment.getAppointmentStatus().isPastOrRejected()) {
-            topic = null;
-            personalTopic = null;
-        }
+        boolean hasNext = appointmentCards.size() > pageSize;
+        List<AppointmentCard> page = hasNext ? appointmentCards.subList(0, pageSize) : appointmentCards;
+        String nextCursor = hasNext ? AppointmentCursor.of(page.get(page.size() - 1)).encode() : null;
 
-        // Appointment에서 필요한 필드들을 매핑
-        return AppointmentCard.builder()
-                .appointmentId(appointment.getId())
-                .appointmentStatus(appointment.getAppointmentStatus())
-                .seniorId(seniorId)
-                .nickname(nickname)
-                .image(image)
-                .field(field)
-                .department(department)
-                .topic(topic)
-                .personalTopic(personalTopic)
-                .company(company)
-                .position(position)
-                .detailPosition(detailPosition)
-                .level(level)
-                .date(date)
-                .startTime(startTime)
-                .endTime(endTime)
-                .createdAt(appointment.getCreatedAt())
-                .updatedAt(appointment.getUpdatedAt())
-                .build();
+        return AppointmentPageResponse.of(page, nextCursor, hasNext);
     }
 
     @Transactional(readOnly = true)
@@ -327,13 +299,67 @@ public class AppointmentService {
         );
     }
 
+    private boolean isActivePairViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(ACTIVE_PAIR_UNIQUE_INDEX);
+    }
+
     // 멤버와 선배 ID로 PENDING, SCHEDULED 인 약속이 이미 존재하는지 확인
     @Transactional(readOnly = true)
     public boolean isExistingAppointment(
             final Long memberId,
             final Long seniorId
     ) {
-        return appointmentRepository.findAppointmentByMemberIdAndSeniorIdAndAppointmentStatusIn(memberId,
-                seniorId, Arrays.asList(AppointmentStatus.PENDING, AppointmentStatus.SCHEDULED)).isPresent();
+        // 대부분인 "약속 없음"은 Redis Set에서 바로 판단하고, 있을 수도 있는 경우만 DB로 확인
+        if (!activeAppointmentPairs.mightExist(memberId, seniorId)) {
+            return false;
+        }
+        return appointmentRepository.existsByMemberIdAndSeniorIdAndAppointmentStatusIn(memberId,
+                seniorId, Arrays.asList(AppointmentStatus.PENDING, AppointmentStatus.SCHEDULED));
+    }
+
+    // 여러 선배 중 후배와 PENDING, SCHEDULED 약속이 있는 선배 ID 집합
+    @Transactional(readOnly = true)
+    public Set<Long> findSeniorIdsWithExistingAppointment(
+            final Long memberId,
+            final Collection<Long> seniorIds
+    ) {
+        if (seniorIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(appointmentRepository.findSeniorIdsByMemberIdAndSeniorIdInAndAppointmentStatusIn(
+                memberId, seniorIds, Arrays.asList(AppointmentStatus.PENDING, AppointmentStatus.SCHEDULED)));
+    }
+
+    // 종료 시각이 지난 확정 약속들을 한 번의 UPDATE로 PAST 처리 (변경된 행 수 반환)
+    // 그사이 다른 요청이 상태를 바꾼 약속은 잠금 조회에서 빠지므로, 실제로 PAST가 된 약속에만 이벤트를 발행함
+    @Transactional
+    public int expireAppointments(final List<ExpiredAppointment> expiredAppointments) {
+        if (expiredAppointments.isEmpty()) {
+            return 0;
+        }
+
+        List<ExpiredAppointment> locked = appointmentRepository.lockExpiredAppointmentsByIdIn(
+                expiredAppointments.stream()
+                        .map(ExpiredAppointment::appointmentId)
+                        .toList(),
+                AppointmentStatus.SCHEDULED
+        );
+        if (locked.isEmpty()) {
+            return 0;
+        }
+
+        int updated = appointmentRepository.updateAppointmentStatusByIdIn(
+                locked.stream()
+                        .map(ExpiredAppointment::appointmentId)
+                        .toList(),
+                AppointmentStatus.SCHEDULED,
+                AppointmentStatus.PAST,
+                LocalDateTime.now()
+        );
+
+        locked.forEach(expired ->
+                eventPublisher.publishEvent(AppointmentClosedEvent.of(expired.memberId(), expired.seniorId())));
+        return updated;
     }
 }
@@ -0,0 +1,95 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSchedule;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// 기동 시 appointment_slot이 없는 기존 약속의 time_list를 옮겨 담음 (여러 서버 중 락을 잡은 한 대만 실행)
+// 기동 스레드를 잡지 않도록 별도 스레드에서 실행하고, 종료 시에는 진행 중인 청크까지만 처리함
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentSlotBackfill {
+
+    private static final String LOCK_KEY = "appointment:slot-backfill";
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentSlotService appointmentSlotService;
+    private final RedissonClient redissonClient;
+
+    @Value("${appointment.slot-backfill.chunk-size:500}")
+    private int chunkSize;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    protected void init() {
+        executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("appointment-slot-backfill-"));
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAsync() {
+        executor.execute(this::backfill);
+    }
+
+    private void backfill() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, 30, TimeUnit.MINUTES)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire appointment slot backfill lock", e);
+            return;
+        }
+
+        try {
+            int created = 0;
+            Long lastId = null;
+            // 형식이 맞지 않아 슬롯이 만들어지지 않는 약속이 있어도 id 기준으로 넘어가므로 반복되지 않음
+            while (!Thread.currentThread().isInterrupted()) {
+                List<AppointmentSchedule> schedules =
+                        appointmentRepository.findAppointmentSchedulesWithoutSlotAfterId(lastId, chunkSize);
+                if (schedules.isEmpty()) {
+                    break;
+                }
+                created += appointmentSlotService.createSlots(schedules);
+                if (schedules.size() < chunkSize) {
+                    break;
+                }
+                lastId = schedules.get(schedules.size() - 1).appointmentId();
+            }
+            if (created > 0) {
+                log.info("Appointment slots backfilled - {} slots", created);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to backfill appointment slots", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
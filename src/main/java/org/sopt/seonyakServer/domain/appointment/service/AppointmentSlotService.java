@@ -0,0 +1,90 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.sopt.seonyakServer.domain.appointment.model.Appointment;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSchedule;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSlot;
+import org.sopt.seonyakServer.domain.appointment.model.DateTimeRange;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentSlotRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Appointment.timeList가 바뀔 때마다 appointment_slot을 같은 트랜잭션에서 맞춰 둠
+@Service
+@RequiredArgsConstructor
+public class AppointmentSlotService {
+
+    private final AppointmentSlotRepository appointmentSlotRepository;
+    private final AppointmentRepository appointmentRepository;
+
+    // 신청 시 제안된 시간들, 수락 시 확정된 시간으로 교체
+    // 약속 행을 먼저 잠가 진행 중인 백필이 끝난 뒤에 교체함 (교체한 슬롯 뒤에 옛 시간이 덧붙지 않도록)
+    @Transactional
+    public void replaceSlots(final Appointment appointment) {
+        appointmentRepository.lockAppointmentById(appointment.getId());
+        appointmentSlotRepository.deleteByAppointmentId(appointment.getId());
+        appointmentSlotRepository.saveAll(toSlots(
+                appointment,
+                appointment.getMember().getId(),
+                appointment.getSenior().getId(),
+                appointment.getTimeList()
+        ));
+    }
+
+    // 기존 JSON time_list를 appointment_slot으로 옮김 (엔티티를 읽지 않고 참조만 사용)
+    // 약속마다 replaceSlots와 같은 행 잠금을 잡은 뒤, 조회 이후 신청/수락으로 슬롯이 먼저 만들어진 약속은
+    // 첫 슬롯의 조건부 INSERT에서 걸러 옛 시간을 덧붙이지 않음
+    @Transactional
+    public int createSlots(final List<AppointmentSchedule> schedules) {
+        int created = 0;
+        for (AppointmentSchedule schedule : schedules) {
+            if (appointmentRepository.lockAppointmentById(schedule.appointmentId()).isEmpty()) {
+                continue;
+            }
+
+            List<AppointmentSlot> slots = toSlots(
+                    appointmentRepository.getReferenceById(schedule.appointmentId()),
+                    schedule.memberId(),
+                    schedule.seniorId(),
+                    schedule.timeList()
+            );
+            if (slots.isEmpty()) {
+                continue;
+            }
+
+            AppointmentSlot first = slots.get(0);
+            int inserted = appointmentSlotRepository.insertIfNoSlots(
+                    schedule.appointmentId(),
+                    first.getMemberId(),
+                    first.getSeniorId(),
+                    first.getStartAt(),
+                    first.getEndAt()
+            );
+            if (inserted == 0) {
+                continue;
+            }
+            appointmentSlotRepository.saveAll(slots.subList(1, slots.size()));
+            created += slots.size();
+        }
+        return created;
+    }
+
+    private List<AppointmentSlot> toSlots(
+            final Appointment appointment,
+            final Long memberId,
+            final Long seniorId,
+            final List<DateTimeRange> timeList
+    ) {
+        if (timeList == null) {
+            return List.of();
+        }
+        return timeList.stream()
+                .filter(Objects::nonNull)
+                .map(dateTimeRange -> AppointmentSlot.of(appointment, memberId, seniorId, dateTimeRange))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
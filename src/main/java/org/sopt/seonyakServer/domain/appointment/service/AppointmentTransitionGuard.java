@@ -0,0 +1,56 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 같은 약속에 대한 상태 변경 요청이 동시에 들어오면 DB까지 가지 않고 바로 거절함.
+ * 표시는 트랜잭션이 끝나면 지우고, 서버가 죽어 남은 표시는 TTL로 정리됨.
+ * Redis 장애 시에는 Appointment의 @Version 검사만으로 동시 변경을 막음.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentTransitionGuard {
+
+    private static final String KEY_PREFIX = "appointment:transition:";
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final RedissonClient redissonClient;
+
+    public void acquire(final Long appointmentId) {
+        RBucket<String> bucket = redissonClient.getBucket(KEY_PREFIX + appointmentId, StringCodec.INSTANCE);
+
+        boolean acquired;
+        try {
+            acquired = bucket.setIfAbsent("1", TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark appointment transition - appointmentId: {}", appointmentId, e);
+            return;
+        }
+
+        if (!acquired) {
+            throw new CustomException(ErrorType.APPOINTMENT_CONFLICT_ERROR);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    bucket.delete();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to clear appointment transition - appointmentId: {}", appointmentId, e);
+                }
+            }
+        });
+    }
+}
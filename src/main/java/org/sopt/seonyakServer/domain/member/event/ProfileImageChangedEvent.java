@@ -0,0 +1,10 @@
+package org.sopt.seonyakServer.domain.member.event;
+
+// 회원의 프로필 이미지 URL이 바뀌었을 때 발행 (커밋 이후 썸네일 생성)
+public record ProfileImageChangedEvent(
+        String imageUrl
+) {
+    public static ProfileImageChangedEvent of(final String imageUrl) {
+        return new ProfileImageChangedEvent(imageUrl);
+    }
+}
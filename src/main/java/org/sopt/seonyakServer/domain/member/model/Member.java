@@ -51,6 +51,10 @@ public class Member extends BaseTimeEntity {
     @Column(name = "image")
     private String image;
 
+    // 현재 image의 썸네일이 만들어졌는지 (만들어지기 전에는 목록에서도 원본 이미지를 사용)
+    @Column(name = "thumbnail_ready", nullable = false, columnDefinition = "boolean default false")
+    private boolean thumbnailReady;
+
     @Column(name = "phone_number")
     private String phoneNumber;
 
@@ -94,7 +98,7 @@ public class Member extends BaseTimeEntity {
             this.nickname = nickname;
         }
         if (image != null) {
-            this.image = image;
+            changeImage(image);
         }
         if (phoneNumber != null) {
             this.phoneNumber = phoneNumber;
@@ -115,6 +119,13 @@ public class Member extends BaseTimeEntity {
     }
 
     public void addProfile(String image) {
+        changeImage(image);
+    }
+
+    private void changeImage(String image) {
+        if (!image.equals(this.image)) {
+            this.thumbnailReady = false;
+        }
         this.image = image;
     }
 }
@@ -7,6 +7,10 @@ import org.sopt.seonyakServer.domain.member.model.SocialType;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -28,6 +32,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
                 .orElseThrow(() -> new CustomException(ErrorType.NOT_FOUND_MEMBER_ERROR));
     }
 
+    // 썸네일이 만들어진 이미지를 쓰는 회원 모두 표시 (기본 이미지는 여러 회원이 함께 사용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.thumbnailReady = true WHERE m.image = :image AND m.thumbnailReady = false")
+    int markThumbnailReadyByImage(@Param("image") String image);
+
     // phoneNumber가 null이고 updatedAt 시간이 time만큼 보다 더 이전인 모든 Member 엔티티를 삭제
     void deleteByPhoneNumberIsNullAndUpdatedAtBefore(LocalDateTime time);
 }
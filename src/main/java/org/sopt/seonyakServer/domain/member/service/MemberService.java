@@ -15,9 +15,11 @@ import org.sopt.seonyakServer.domain.member.dto.NicknameRequest;
 import org.sopt.seonyakServer.domain.member.dto.SendCodeRequest;
 import org.sopt.seonyakServer.domain.member.dto.ValidTokenResponse;
 import org.sopt.seonyakServer.domain.member.dto.VerifyCodeRequest;
+import org.sopt.seonyakServer.domain.member.event.ProfileImageChangedEvent;
 import org.sopt.seonyakServer.domain.member.model.Member;
 import org.sopt.seonyakServer.domain.member.model.SocialType;
 import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.sopt.seonyakServer.domain.senior.event.SeniorChangedEvent;
 import org.sopt.seonyakServer.domain.senior.service.SeniorService;
 import org.sopt.seonyakServer.global.auth.MemberAuthentication;
 import org.sopt.seonyakServer.global.auth.PrincipalHandler;
@@ -29,6 +31,7 @@ import org.sopt.seonyakServer.global.common.external.client.service.GoogleSocial
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -45,6 +48,7 @@ public class MemberService {
     private final SeniorService seniorService;
     private DefaultMessageService defaultMessageService;
     private final CodeService codeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${coolsms.api.key}")
     private String apiKey;
@@ -182,9 +186,28 @@ public class MemberService {
             throw new CustomException(ErrorType.INVALID_USER_TYPE_ERROR);
         }
 
+        // 이미 선배인 회원의 닉네임, 이미지, 계열이 바뀐 경우 검색 인덱스 갱신
+        if (member.getSenior() != null) {
+            eventPublisher.publishEvent(SeniorChangedEvent.of(member.getSenior().getId()));
+        }
+        // Presigned URL로 올라온 이미지, 기본 이미지의 썸네일은 가입이 커밋된 이후에 생성
+        eventPublisher.publishEvent(ProfileImageChangedEvent.of(member.getImage()));
+
         return MemberJoinResponse.of(memberJoinRequest.role());
     }
 
+    // S3 업로드가 끝난 뒤에 짧은 트랜잭션으로 프로필 이미지 URL만 반영
+    @Transactional
+    public void updateProfileImage(final Long memberId, final String imageUrl) {
+        Member member = memberRepository.findMemberByIdOrThrow(memberId);
+        member.addProfile(imageUrl);
+
+        if (member.getSenior() != null) {
+            eventPublisher.publishEvent(SeniorChangedEvent.of(member.getSenior().getId()));
+        }
+        eventPublisher.publishEvent(ProfileImageChangedEvent.of(imageUrl));
+    }
+
     @Transactional
     public void sendMessage(SendCodeRequest sendCodeRequest) {
         Message message = new Message();
@@ -0,0 +1,94 @@
+package org.sopt.seonyakServer.domain.notice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sopt.seonyakServer.global.common.model.BaseTimeEntity;
+
+// 약속 이벤트 알림 문자 Outbox, 비즈니스 트랜잭션과 함께 커밋되고 발송은 NoticeMessageDispatcher가 담당
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_message", indexes = {
+        @Index(name = "idx_notice_message_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class NoticeMessage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    // 같은 이벤트에 대한 중복 발송 방지용 키 (ex. APPOINTMENT_ACCEPTED:12)
+    @Column(name = "dedup_key", nullable = false, unique = true)
+    private String dedupKey;
+
+    @Column(name = "phone_number", nullable = false)
+    private String phoneNumber;
+
+    @Column(name = "text", nullable = false)
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private NoticeMessageStatus status;
+
+    // 발송 시도(선점) 횟수
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    private NoticeMessage(
+            String dedupKey,
+            String phoneNumber,
+            String text
+    ) {
+        this.dedupKey = dedupKey;
+        this.phoneNumber = phoneNumber;
+        this.text = text;
+        this.status = NoticeMessageStatus.PENDING;
+        this.retryCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 발송 담당 노드가 가져감, 노드가 죽더라도 claimTimeout 이후 다시 발송 대상이 됨
+    // 가져가는 것 자체를 시도 1회로 세어, 발송 중 노드를 죽이는 메시지가 무한히 재발송되지 않도록 함
+    public boolean claim(int maxRetryCount, LocalDateTime claimTimeout) {
+        if (this.retryCount >= maxRetryCount) {
+            this.status = NoticeMessageStatus.FAILED;
+            return false;
+        }
+        this.retryCount++;
+        this.status = NoticeMessageStatus.SENDING;
+        this.nextAttemptAt = claimTimeout;
+        return true;
+    }
+
+    public void markSent() {
+        this.status = NoticeMessageStatus.SENT;
+    }
+
+    // 시도 횟수는 claim에서 이미 셌음
+    public void markRetry(int maxRetryCount, LocalDateTime nextAttemptAt) {
+        if (this.retryCount >= maxRetryCount) {
+            this.status = NoticeMessageStatus.FAILED;
+            return;
+        }
+        this.status = NoticeMessageStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,17 @@
+package org.sopt.seonyakServer.domain.notice.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum NoticeMessageStatus {
+
+    PENDING("PENDING"),
+    SENDING("SENDING"),
+    SENT("SENT"),
+    FAILED("FAILED");
+
+    private final String noticeMessageStatus;
+}
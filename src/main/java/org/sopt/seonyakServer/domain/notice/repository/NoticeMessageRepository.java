@@ -0,0 +1,48 @@
+package org.sopt.seonyakServer.domain.notice.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.sopt.seonyakServer.domain.notice.model.NoticeMessage;
+import org.sopt.seonyakServer.domain.notice.model.NoticeMessageStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface NoticeMessageRepository extends JpaRepository<NoticeMessage, Long> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    // 같은 dedupKey가 이미 있으면 아무것도 하지 않음 (동시에 들어와도 유니크 제약 위반으로 호출한 트랜잭션을 깨뜨리지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO notice_message "
+            + "(dedup_key, phone_number, text, status, retry_count, next_attempt_at, created_at, updated_at) "
+            + "VALUES (:dedupKey, :phoneNumber, :text, 'PENDING', 0, :now, :now, :now) "
+            + "ON CONFLICT (dedup_key) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("dedupKey") String dedupKey,
+            @Param("phoneNumber") String phoneNumber,
+            @Param("text") String text,
+            @Param("now") LocalDateTime now
+    );
+
+    // 여러 노드가 동시에 발송하지 않도록 이미 잠긴 행은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n "
+            + "FROM NoticeMessage n "
+            + "WHERE n.status IN :statuses "
+            + "AND n.nextAttemptAt <= :now "
+            + "ORDER BY n.id")
+    List<NoticeMessage> findDispatchTargets(
+            @Param("statuses") List<NoticeMessageStatus> statuses,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+}
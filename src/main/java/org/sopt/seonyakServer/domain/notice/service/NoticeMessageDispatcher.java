@@ -0,0 +1,119 @@
+package org.sopt.seonyakServer.domain.notice.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.sopt.seonyakServer.domain.notice.model.NoticeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Outbox에 쌓인 알림 문자를 모아서 CoolSMS 다건 발송 API로 보냄
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeMessageDispatcher {
+
+    private final NoticeMessageService noticeMessageService;
+
+    private DefaultMessageService defaultMessageService;
+
+    @Value("${coolsms.api.key}")
+    private String apiKey;
+
+    @Value("${coolsms.api.secret}")
+    private String apiSecret;
+
+    @Value("${coolsms.fromNumber}")
+    private String fromNumber;
+
+    private static final int BATCH_SIZE = 100;
+    // 발송 결과를 Outbox 행과 맞추기 위해 메시지마다 넣는 사용자 정의 필드
+    private static final String NOTICE_MESSAGE_ID_FIELD = "noticeMessageId";
+
+    @PostConstruct
+    public void init() {
+        this.defaultMessageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
+    }
+
+    @Scheduled(fixedDelay = 3000) // 이전 발송이 끝나고 3초 후 실행
+    public void dispatch() {
+        List<NoticeMessage> noticeMessages = noticeMessageService.claimBatch(BATCH_SIZE);
+        if (noticeMessages.isEmpty()) {
+            return;
+        }
+
+        List<Long> noticeMessageIds = noticeMessages.stream()
+                .map(NoticeMessage::getId)
+                .toList();
+
+        noticeMessageService.completeBatch(noticeMessageIds, send(noticeMessages));
+    }
+
+    // 발송에 실패한 Outbox Id 목록을 반환
+    private Set<Long> send(List<NoticeMessage> noticeMessages) {
+        List<Message> messages = noticeMessages.stream()
+                .map(noticeMessage -> {
+                    Message message = new Message();
+                    message.setFrom(fromNumber);
+                    message.setTo(noticeMessage.getPhoneNumber());
+                    message.setText(noticeMessage.getText());
+                    message.setCustomFields(Map.of(NOTICE_MESSAGE_ID_FIELD, noticeMessage.getId().toString()));
+                    return message;
+                })
+                .toList();
+
+        try {
+            defaultMessageService.send(messages);
+            return Set.of();
+        } catch (NurigoMessageNotReceivedException e) {
+            // 일부 메시지만 실패한 경우, 수신번호가 아닌 메시지마다 넣은 Outbox Id로 실패한 메시지만 재시도
+            // (같은 번호로 간 다른 메시지는 이미 발송되었으므로 다시 보내지 않음)
+            Set<Long> noticeMessageIds = noticeMessages.stream()
+                    .map(NoticeMessage::getId)
+                    .collect(Collectors.toSet());
+            Set<Long> failedIds = new HashSet<>();
+            int unmatched = 0;
+            for (FailedMessage failedMessage : e.getFailedMessageList()) {
+                Long failedId = toNoticeMessageId(failedMessage);
+                if (failedId != null && noticeMessageIds.contains(failedId)) {
+                    failedIds.add(failedId);
+                } else {
+                    unmatched++;
+                }
+            }
+            log.error("Notice message partially failed - {} failed, {} unmatched - {}",
+                    failedIds.size(), unmatched, e.getMessage());
+            return failedIds;
+        } catch (Exception e) {
+            log.error("Notice message dispatch failed - {}", e.getMessage());
+
+            return noticeMessages.stream()
+                    .map(NoticeMessage::getId)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private Long toNoticeMessageId(FailedMessage failedMessage) {
+        Map<String, String> customFields = failedMessage.getCustomFields();
+        String noticeMessageId = customFields == null ? null : customFields.get(NOTICE_MESSAGE_ID_FIELD);
+        if (noticeMessageId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(noticeMessageId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
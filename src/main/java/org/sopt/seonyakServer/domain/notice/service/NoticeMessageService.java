@@ -0,0 +1,83 @@
+package org.sopt.seonyakServer.domain.notice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.notice.model.NoticeMessage;
+import org.sopt.seonyakServer.domain.notice.model.NoticeMessageStatus;
+import org.sopt.seonyakServer.domain.notice.repository.NoticeMessageRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeMessageService {
+
+    private final NoticeMessageRepository noticeMessageRepository;
+
+    private static final int MAX_RETRY_COUNT = 5;
+    private static final long BASE_BACKOFF_SECONDS = 30L;
+    private static final long CLAIM_TIMEOUT_MINUTES = 5L;
+
+    // 호출한 쪽의 트랜잭션에 참여하여 약속 상태 변경과 함께 커밋됨
+    // 휴대전화 번호가 없는 회원은 문자를 보낼 수 없으므로, 약속 처리는 그대로 두고 알림만 건너뜀
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(
+            final String dedupKey,
+            final Member receiver,
+            final String messageDetail
+    ) {
+        if (receiver.getPhoneNumber() == null) {
+            log.warn("Notice message skipped, receiver has no phone number - dedupKey: {}", dedupKey);
+            return;
+        }
+
+        noticeMessageRepository.insertIfAbsent(
+                dedupKey,
+                receiver.getPhoneNumber(),
+                "[선약] " + messageDetail,
+                LocalDateTime.now()
+        );
+    }
+
+    // 발송 대상을 SENDING으로 선점한 뒤 바로 커밋하여, 외부 API 호출 동안 DB 커넥션을 잡고 있지 않도록 함
+    @Transactional
+    public List<NoticeMessage> claimBatch(final int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NoticeMessage> targets = noticeMessageRepository.findDispatchTargets(
+                List.of(NoticeMessageStatus.PENDING, NoticeMessageStatus.SENDING),
+                now,
+                PageRequest.of(0, batchSize)
+        );
+        LocalDateTime claimTimeout = now.plusMinutes(CLAIM_TIMEOUT_MINUTES);
+
+        // 시도 횟수를 모두 쓴 메시지는 FAILED로 바꾸고 발송 대상에서 제외
+        return targets.stream()
+                .filter(noticeMessage -> noticeMessage.claim(MAX_RETRY_COUNT, claimTimeout))
+                .toList();
+    }
+
+    @Transactional
+    public void completeBatch(
+            final List<Long> noticeMessageIds,
+            final Set<Long> failedIds
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+
+        noticeMessageRepository.findAllById(noticeMessageIds).forEach(noticeMessage -> {
+            if (!failedIds.contains(noticeMessage.getId())) {
+                noticeMessage.markSent();
+                return;
+            }
+            // 지수 백오프 (30초, 1분, 2분, ...), retryCount는 선점 시 이미 1 이상
+            long backoffSeconds = BASE_BACKOFF_SECONDS << Math.max(noticeMessage.getRetryCount() - 1, 0);
+            noticeMessage.markRetry(MAX_RETRY_COUNT, now.plusSeconds(backoffSeconds));
+        });
+    }
+}
@@ -2,11 +2,14 @@ package org.sopt.seonyakServer.domain.senior.controller;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorAvailabilityListResponse;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorAvailableSlotResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorCardProfileResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorFilterResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorProfileRequest;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorProfileResponse;
 import org.sopt.seonyakServer.domain.senior.model.PreferredTimeList;
+import org.sopt.seonyakServer.domain.senior.service.SeniorAvailableSlotService;
 import org.sopt.seonyakServer.domain.senior.service.SeniorService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SeniorController {
 
     private final SeniorService seniorService;
+    private final SeniorAvailableSlotService seniorAvailableSlotService;
 
     @PatchMapping("/profile")
     public ResponseEntity<Void> patchProfile(
@@ -39,6 +43,14 @@ public class SeniorController {
         return ResponseEntity.ok(seniorService.getSeniorPreferredTime(seniorId));
     }
 
+    @GetMapping("/time/{seniorId}/available")
+    public ResponseEntity<SeniorAvailableSlotResponse> getAvailableSlots(
+            @PathVariable final Long seniorId,
+            @RequestParam(defaultValue = "2") final int weeks
+    ) {
+        return ResponseEntity.ok(seniorAvailableSlotService.getAvailableSlots(seniorId, weeks));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<SeniorFilterResponse> searchFieldPosition(
             @RequestParam(required = false) final List<String> field,
@@ -47,6 +59,13 @@ public class SeniorController {
         return ResponseEntity.ok(seniorService.searchSeniorFieldPosition(field, position));
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<SeniorAvailabilityListResponse> getSeniorAvailabilities(
+            @RequestParam final List<Long> seniorIds
+    ) {
+        return ResponseEntity.ok(seniorService.getSeniorAvailabilities(seniorIds));
+    }
+
     @GetMapping("/{seniorId}")
     public ResponseEntity<SeniorProfileResponse> getSeniorProfile(
             @PathVariable final Long seniorId
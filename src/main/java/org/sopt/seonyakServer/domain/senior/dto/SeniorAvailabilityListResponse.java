@@ -0,0 +1,13 @@
+package org.sopt.seonyakServer.domain.senior.dto;
+
+import java.util.List;
+
+public record SeniorAvailabilityListResponse(
+        List<SeniorAvailabilityResponse> availabilityList
+) {
+    public static SeniorAvailabilityListResponse of(
+            final List<SeniorAvailabilityResponse> availabilityList
+    ) {
+        return new SeniorAvailabilityListResponse(availabilityList);
+    }
+}
@@ -0,0 +1,16 @@
+package org.sopt.seonyakServer.domain.senior.dto;
+
+public record SeniorAvailabilityResponse(
+        Long seniorId,
+        boolean isAvailable
+) {
+    public static SeniorAvailabilityResponse of(
+            final Long seniorId,
+            final boolean isAvailable
+    ) {
+        return new SeniorAvailabilityResponse(
+                seniorId,
+                isAvailable
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package org.sopt.seonyakServer.domain.senior.dto;
+
+import java.util.List;
+
+// startDate부터 하루마다 비트마스크 하나 (i번째 비트가 켜져 있으면 i * slotMinutes분에 시작하는 칸이 비어 있음)
+public record SeniorAvailableSlotResponse(
+        String startDate,
+        int slotMinutes,
+        List<Long> slotMasks
+) {
+    public static SeniorAvailableSlotResponse of(
+            final String startDate,
+            final int slotMinutes,
+            final List<Long> slotMasks
+    ) {
+        return new SeniorAvailableSlotResponse(
+                startDate,
+                slotMinutes,
+                slotMasks
+        );
+    }
+}
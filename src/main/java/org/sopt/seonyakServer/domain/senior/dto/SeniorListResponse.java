@@ -1,8 +1,10 @@
 package org.sopt.seonyakServer.domain.senior.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.sopt.seonyakServer.global.common.external.s3.ProfileThumbnail;
 
 @Getter
 @AllArgsConstructor
@@ -18,6 +20,9 @@ public class SeniorListResponse {
     private String field;
     private String level;
 
+    @JsonIgnore
+    private boolean thumbnailReady;
+
     public static SeniorListResponse of(
             final Long seniorId,
             final String nickname,
@@ -26,7 +31,8 @@ public class SeniorListResponse {
             final String position,
             final String detailPosition,
             final String field,
-            final String level) {
+            final String level,
+            final boolean thumbnailReady) {
         return new SeniorListResponse(
                 seniorId,
                 nickname,
@@ -35,6 +41,12 @@ public class SeniorListResponse {
                 position,
                 detailPosition,
                 field,
-                level);
+                level,
+                thumbnailReady);
+    }
+
+    // 목록 카드에서는 원본 대신 256px 썸네일 사용 (썸네일 생성이 끝나기 전에는 원본)
+    public String getThumbnailImage() {
+        return thumbnailReady ? ProfileThumbnail.url(image, ProfileThumbnail.MEDIUM) : image;
     }
 }
@@ -0,0 +1,10 @@
+package org.sopt.seonyakServer.domain.senior.event;
+
+// 선배 목록 카드에 노출되는 정보가 바뀌었을 때 발행
+public record SeniorChangedEvent(
+        Long seniorId
+) {
+    public static SeniorChangedEvent of(final Long seniorId) {
+        return new SeniorChangedEvent(seniorId);
+    }
+}
@@ -1,8 +1,11 @@
 package org.sopt.seonyakServer.domain.senior.model;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import java.time.DayOfWeek;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -15,6 +18,16 @@ import lombok.Setter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode
 public class PreferredTimeList {
+    private static final Map<String, DayOfWeek> KOREAN_DAYS = Map.of(
+            "월", DayOfWeek.MONDAY,
+            "화", DayOfWeek.TUESDAY,
+            "수", DayOfWeek.WEDNESDAY,
+            "목", DayOfWeek.THURSDAY,
+            "금", DayOfWeek.FRIDAY,
+            "토", DayOfWeek.SATURDAY,
+            "일", DayOfWeek.SUNDAY
+    );
+
     private Map<String, List<TimeRange>> preferredTimeList = new HashMap<>();
 
     @JsonAnySetter
@@ -22,4 +35,35 @@ public class PreferredTimeList {
         preferredTimeList.put(day, times);
     }
 
+    // 요일 문자열 키를 DayOfWeek로 바꾼 목록 (알 수 없는 키는 제외)
+    public Map<DayOfWeek, List<TimeRange>> toDayOfWeekMap() {
+        Map<DayOfWeek, List<TimeRange>> result = new EnumMap<>(DayOfWeek.class);
+        preferredTimeList.forEach((day, times) -> {
+            DayOfWeek dayOfWeek = toDayOfWeek(day);
+            if (dayOfWeek != null && times != null) {
+                result.put(dayOfWeek, times);
+            }
+        });
+        return result;
+    }
+
+    // "월", "월요일", "MONDAY", "mon" 형태를 모두 허용
+    private static DayOfWeek toDayOfWeek(String day) {
+        if (day == null || day.isBlank()) {
+            return null;
+        }
+        String trimmed = day.trim();
+        DayOfWeek korean = KOREAN_DAYS.get(trimmed.substring(0, 1));
+        if (korean != null && (trimmed.length() == 1 || trimmed.endsWith("요일"))) {
+            return korean;
+        }
+
+        String upper = trimmed.toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().equals(upper) || (upper.length() == 3 && dayOfWeek.name().startsWith(upper))) {
+                return dayOfWeek;
+            }
+        }
+        return null;
+    }
 }
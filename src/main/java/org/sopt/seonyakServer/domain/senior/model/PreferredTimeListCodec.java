@@ -0,0 +1,37 @@
+package org.sopt.seonyakServer.domain.senior.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+
+// preferred_time_list 컬럼의 JSON 문자열 <-> PreferredTimeList (Hibernate JSON 매핑과 같은 형태로 읽고 씀)
+public final class PreferredTimeListCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private PreferredTimeListCodec() {
+    }
+
+    public static PreferredTimeList decode(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, PreferredTimeList.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorType.JSON_TO_MAP_ERROR);
+        }
+    }
+
+    public static String encode(PreferredTimeList preferredTimeList) {
+        if (preferredTimeList == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(preferredTimeList);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorType.MAP_TO_JSON_ERROR);
+        }
+    }
+}
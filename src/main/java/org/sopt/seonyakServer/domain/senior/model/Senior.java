@@ -1,6 +1,7 @@
 package org.sopt.seonyakServer.domain.senior.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -8,12 +9,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.ColumnTransformer;
 import org.sopt.seonyakServer.domain.member.model.Member;
 import org.sopt.seonyakServer.global.common.model.BaseTimeEntity;
 
@@ -59,10 +60,19 @@ public class Senior extends BaseTimeEntity {
     @Column(name = "story")
     private String story;
 
+    // 선배를 읽을 때마다 JSON을 역직렬화하지 않도록 문자열로 들고 있다가 처음 꺼낼 때 해석
     @Column(name = "preferred_time_list", columnDefinition = "json")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @ColumnTransformer(write = "?::json")
+    private String preferredTimeListJson;
+
+    @Transient
     private PreferredTimeList preferredTimeList;
 
+    // 요일별 30분 칸 비트셋 (7 x 48비트), 약속 가능 시간 계산/충돌 검사에 사용
+    @Column(name = "preferred_time_slots", columnDefinition = "bytea")
+    @Convert(converter = WeeklyTimeSlotsConverter.class)
+    private WeeklyTimeSlots preferredTimeSlots;
+
     @Builder
     private Senior(
             Member member,
@@ -92,6 +102,23 @@ public class Senior extends BaseTimeEntity {
         this.award = award;
         this.story = story;
         this.preferredTimeList = preferredTimeList;
+        this.preferredTimeListJson = PreferredTimeListCodec.encode(preferredTimeList);
+        this.preferredTimeSlots = preferredTimeList == null ? null : WeeklyTimeSlots.from(preferredTimeList);
+    }
+
+    public PreferredTimeList getPreferredTimeList() {
+        if (preferredTimeList == null && preferredTimeListJson != null) {
+            preferredTimeList = PreferredTimeListCodec.decode(preferredTimeListJson);
+        }
+        return preferredTimeList;
+    }
+
+    // 비트셋 컬럼이 생기기 전에 저장된 선배는 JSON에서 계산
+    public WeeklyTimeSlots getPreferredTimeSlots() {
+        if (preferredTimeSlots != null) {
+            return preferredTimeSlots;
+        }
+        return WeeklyTimeSlots.from(getPreferredTimeList());
     }
 
     public void addBusinessCard(
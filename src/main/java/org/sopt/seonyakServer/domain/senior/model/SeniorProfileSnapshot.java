@@ -0,0 +1,60 @@
+package org.sopt.seonyakServer.domain.senior.model;
+
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorCardProfileResponse;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorProfileResponse;
+
+// 선배 상세/카드 프로필 캐시 값 (조회자마다 다른 isAvailable은 포함하지 않음)
+public record SeniorProfileSnapshot(
+        String nickname,
+        String company,
+        String field,
+        String position,
+        String detailPosition,
+        String level,
+        String image,
+        String career,
+        String award,
+        String catchphrase,
+        String story
+) {
+    public static SeniorProfileSnapshot from(final Senior senior) {
+        Member member = senior.getMember();
+        return new SeniorProfileSnapshot(
+                member.getNickname(),
+                senior.getCompany(),
+                member.getField(),
+                senior.getPosition(),
+                senior.getDetailPosition(),
+                senior.getLevel(),
+                member.getImage(),
+                senior.getCareer(),
+                senior.getAward(),
+                senior.getCatchphrase(),
+                senior.getStory()
+        );
+    }
+
+    public SeniorProfileResponse toProfileResponse(final boolean isAvailable) {
+        return SeniorProfileResponse.of(
+                isAvailable,
+                level,
+                career,
+                award,
+                catchphrase,
+                story
+        );
+    }
+
+    public SeniorCardProfileResponse toCardProfileResponse() {
+        return SeniorCardProfileResponse.of(
+                nickname,
+                company,
+                field,
+                position,
+                detailPosition,
+                level,
+                image
+        );
+    }
+}
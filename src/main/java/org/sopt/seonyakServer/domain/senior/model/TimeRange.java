@@ -13,4 +13,34 @@ import lombok.Setter;
 public class TimeRange {
     private String startTime;
     private String endTime;
+
+    // 자정부터 지난 분 ("24:00"은 1440), 형식이 맞지 않으면 -1
+    public int toStartMinute() {
+        return toMinuteOfDay(startTime);
+    }
+
+    public int toEndMinute() {
+        return toMinuteOfDay(endTime);
+    }
+
+    private static int toMinuteOfDay(String time) {
+        if (time == null) {
+            return -1;
+        }
+        String[] parts = time.trim().split(":");
+        if (parts.length != 2) {
+            return -1;
+        }
+
+        try {
+            int hour = Integer.parseInt(parts[0]);
+            int minute = Integer.parseInt(parts[1]);
+            if (hour < 0 || minute < 0 || minute >= 60 || hour * 60 + minute > 24 * 60) {
+                return -1;
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
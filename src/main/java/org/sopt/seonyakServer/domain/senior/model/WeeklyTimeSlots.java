@@ -0,0 +1,123 @@
+package org.sopt.seonyakServer.domain.senior.model;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요일별 30분 단위 시간 칸(하루 48칸)을 비트로 담은 불변 값.
+ * 요일마다 long 하나를 쓰며, i번째 비트는 i * 30분에 시작하는 칸을 뜻함.
+ */
+public final class WeeklyTimeSlots {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int DAYS = DayOfWeek.values().length;
+    private static final int BYTES_PER_DAY = (SLOTS_PER_DAY + 7) / 8;
+
+    public static final WeeklyTimeSlots EMPTY = new WeeklyTimeSlots(new long[DAYS]);
+
+    private final long[] masks;
+
+    private WeeklyTimeSlots(long[] masks) {
+        this.masks = masks;
+    }
+
+    // 선호 시간에 완전히 포함되는 칸만 켬 (형식이 맞지 않는 시간은 무시)
+    public static WeeklyTimeSlots from(final PreferredTimeList preferredTimeList) {
+        if (preferredTimeList == null) {
+            return EMPTY;
+        }
+
+        long[] masks = new long[DAYS];
+        preferredTimeList.toDayOfWeekMap().forEach((dayOfWeek, times) -> {
+            masks[dayOfWeek.getValue() - 1] |= toMask(times);
+        });
+        return new WeeklyTimeSlots(masks);
+    }
+
+    // 요일마다 48비트(6바이트)씩 빅엔디안으로 이어 붙인 42바이트
+    public static WeeklyTimeSlots fromBytes(final byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES_PER_DAY * DAYS) {
+            return EMPTY;
+        }
+
+        long[] masks = new long[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            long mask = 0;
+            for (int i = 0; i < BYTES_PER_DAY; i++) {
+                mask = (mask << 8) | (bytes[day * BYTES_PER_DAY + i] & 0xFF);
+            }
+            masks[day] = mask;
+        }
+        return new WeeklyTimeSlots(masks);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES_PER_DAY * DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            long mask = masks[day];
+            for (int i = BYTES_PER_DAY - 1; i >= 0; i--) {
+                bytes[day * BYTES_PER_DAY + i] = (byte) mask;
+                mask >>>= 8;
+            }
+        }
+        return bytes;
+    }
+
+    // 해당 요일의 [startMinute, endMinute)에 걸치는 칸이 모두 켜져 있는지 (자정을 넘기는 시간은 false)
+    public boolean covers(final DayOfWeek dayOfWeek, final int startMinute, final int endMinute) {
+        if (startMinute < 0 || endMinute > 24 * 60 || startMinute >= endMinute) {
+            return false;
+        }
+
+        int firstSlot = startMinute / SLOT_MINUTES;
+        int lastSlot = (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        long required = ((1L << lastSlot) - 1) & ~((1L << firstSlot) - 1);
+        return (mask(dayOfWeek) & required) == required;
+    }
+
+    public long mask(final DayOfWeek dayOfWeek) {
+        return masks[dayOfWeek.getValue() - 1];
+    }
+
+    public boolean isEmpty() {
+        for (long mask : masks) {
+            if (mask != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toMask(List<TimeRange> times) {
+        long mask = 0;
+        for (TimeRange timeRange : times) {
+            if (timeRange == null) {
+                continue;
+            }
+            int start = timeRange.toStartMinute();
+            int end = timeRange.toEndMinute();
+            if (start < 0 || end < 0) {
+                continue;
+            }
+
+            int firstSlot = (start + SLOT_MINUTES - 1) / SLOT_MINUTES;
+            int lastSlot = end / SLOT_MINUTES;
+            for (int slot = firstSlot; slot < lastSlot; slot++) {
+                mask |= 1L << slot;
+            }
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof WeeklyTimeSlots other && Arrays.equals(masks, other.masks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(masks);
+    }
+}
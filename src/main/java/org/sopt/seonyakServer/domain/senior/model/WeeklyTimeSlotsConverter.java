@@ -0,0 +1,19 @@
+package org.sopt.seonyakServer.domain.senior.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// WeeklyTimeSlots <-> bytea(42바이트)
+@Converter
+public class WeeklyTimeSlotsConverter implements AttributeConverter<WeeklyTimeSlots, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(WeeklyTimeSlots weeklyTimeSlots) {
+        return weeklyTimeSlots == null ? null : weeklyTimeSlots.toBytes();
+    }
+
+    @Override
+    public WeeklyTimeSlots convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : WeeklyTimeSlots.fromBytes(bytes);
+    }
+}
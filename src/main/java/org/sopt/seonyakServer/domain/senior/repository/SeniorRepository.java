@@ -1,10 +1,14 @@
 package org.sopt.seonyakServer.domain.senior.repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.sopt.seonyakServer.domain.senior.model.Senior;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SeniorRepository extends JpaRepository<Senior, Long>, SeniorRepositoryCustom {
 
@@ -12,6 +16,11 @@ public interface SeniorRepository extends JpaRepository<Senior, Long>, SeniorRep
 
     Optional<Senior> findSeniorByMemberId(Long id);
 
+    // 선배 행을 잠가 같은 선배의 약속 수락(충돌 검사 + 확정)을 순서대로 실행시킴
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.id FROM Senior s WHERE s.id = :id")
+    Optional<Long> lockSeniorById(@Param("id") Long id);
+
     default Senior findSeniorByIdOrThrow(Long id) {
         return findSeniorById(id)
                 .orElseThrow(() -> new CustomException(ErrorType.NOT_FOUND_SENIOR_ERROR));
@@ -1,8 +1,11 @@
 package org.sopt.seonyakServer.domain.senior.repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorListResponse;
 
 public interface SeniorRepositoryCustom {
     List<SeniorListResponse> searchSeniorFieldPosition(List<String> fields, List<String> positions);
+
+    Optional<SeniorListResponse> findSeniorListResponseById(Long seniorId);
 }
@@ -2,9 +2,11 @@ package org.sopt.seonyakServer.domain.senior.repository;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Optional;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorListResponse;
 import org.sopt.seonyakServer.domain.senior.model.QSenior;
 
@@ -20,6 +22,20 @@ public class SeniorRepositoryImpl implements SeniorRepositoryCustom {
     public List<SeniorListResponse> searchSeniorFieldPosition(List<String> fields, List<String> positions) {
         BooleanExpression fieldCondition = createFieldCondition(senior, fields);
         BooleanExpression positionCondition = createPositionCondition(senior, positions);
+        return selectSeniorList()
+                .where(fieldCondition, positionCondition)
+                .orderBy(senior.createdAt.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<SeniorListResponse> findSeniorListResponseById(Long seniorId) {
+        return Optional.ofNullable(selectSeniorList()
+                .where(senior.id.eq(seniorId))
+                .fetchOne());
+    }
+
+    private JPAQuery<SeniorListResponse> selectSeniorList() {
         return queryFactory
                 .select(Projections.fields(SeniorListResponse.class,
                         senior.id.as("seniorId"),
@@ -29,11 +45,9 @@ public class SeniorRepositoryImpl implements SeniorRepositoryCustom {
                         senior.detailPosition,
                         senior.member.nickname,
                         senior.member.field,
-                        senior.level))
-                .from(senior)
-                .where(fieldCondition, positionCondition)
-                .orderBy(senior.createdAt.asc())
-                .fetch();
+                        senior.level,
+                        senior.member.thumbnailReady))
+                .from(senior);
     }
 
     private BooleanExpression createFieldCondition(QSenior senior, List<String> fields) {
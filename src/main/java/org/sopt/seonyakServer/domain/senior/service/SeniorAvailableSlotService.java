@@ -0,0 +1,114 @@
+package org.sopt.seonyakServer.domain.senior.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentSlot;
+import org.sopt.seonyakServer.domain.appointment.model.IntervalSet;
+import org.sopt.seonyakServer.domain.appointment.service.AppointmentConflictDetector;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorAvailableSlotResponse;
+import org.sopt.seonyakServer.domain.senior.event.SeniorChangedEvent;
+import org.sopt.seonyakServer.domain.senior.model.WeeklyTimeSlots;
+import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 선배의 앞으로 N주간 약속 가능한 30분 칸 계산.
+ * 선호 시간(요일별 비트마스크)과 확정된 약속 시간(IntervalSet)을 각각 캐시해 두고, 요청마다 두 값을 합쳐서 만듦.
+ * - 선호 시간: 선배 정보 변경 시 선배 프로필 캐시와 같은 토픽으로 모든 서버에서 비움
+ * - 확정된 약속: AppointmentConflictDetector가 수락/거절/종료 시 비움
+ */
+@Service
+@RequiredArgsConstructor
+public class SeniorAvailableSlotService {
+
+    private static final String CACHE_NAME = "senior.preferred-slots";
+    private static final int MAX_WEEKS = 8;
+    private static final long SLOT_SECONDS = WeeklyTimeSlots.SLOT_MINUTES * 60L;
+
+    private final SeniorRepository seniorRepository;
+    private final AppointmentConflictDetector appointmentConflictDetector;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${senior.preferred-slot-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private Cache<Long, WeeklyTimeSlots> preferredSlotCache;
+
+    @PostConstruct
+    protected void init() {
+        preferredSlotCache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, preferredSlotCache, CACHE_NAME);
+
+        redissonClient.getTopic(SeniorProfileCache.INVALIDATION_TOPIC, LongCodec.INSTANCE)
+                .addListener(Long.class, (channel, seniorId) -> preferredSlotCache.invalidate(seniorId));
+    }
+
+    public SeniorAvailableSlotResponse getAvailableSlots(final Long seniorId, final int weeks) {
+        if (weeks < 1 || weeks > MAX_WEEKS) {
+            throw new CustomException(ErrorType.INVALID_WEEKS_ERROR);
+        }
+
+        WeeklyTimeSlots preferred = preferredSlotCache.get(seniorId, key ->
+                seniorRepository.findSeniorByIdOrThrow(key).getPreferredTimeSlots());
+        IntervalSet busy = appointmentConflictDetector.getBusySlots(seniorId);
+
+        ZonedDateTime now = ZonedDateTime.now(AppointmentSlot.ZONE_ID);
+        LocalDate today = now.toLocalDate();
+        long nowEpochSecond = now.toEpochSecond();
+
+        List<Long> slotMasks = new ArrayList<>(weeks * 7);
+        for (int day = 0; day < weeks * 7; day++) {
+            LocalDate date = today.plusDays(day);
+            slotMasks.add(toAvailableMask(date, preferred.mask(date.getDayOfWeek()), busy, nowEpochSecond));
+        }
+
+        return SeniorAvailableSlotResponse.of(today.toString(), WeeklyTimeSlots.SLOT_MINUTES, slotMasks);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(SeniorChangedEvent event) {
+        preferredSlotCache.invalidate(event.seniorId());
+    }
+
+    // 선호 칸 중 이미 지났거나 확정된 약속과 겹치는 칸을 끔
+    private long toAvailableMask(LocalDate date, long preferredMask, IntervalSet busy, long nowEpochSecond) {
+        if (preferredMask == 0) {
+            return 0;
+        }
+
+        long dayStart = date.atStartOfDay(AppointmentSlot.ZONE_ID).toEpochSecond();
+        long mask = preferredMask;
+        long remaining = preferredMask;
+        while (remaining != 0) {
+            int slot = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+
+            long slotStart = dayStart + slot * SLOT_SECONDS;
+            if (slotStart < nowEpochSecond || busy.overlaps(slotStart, slotStart + SLOT_SECONDS)) {
+                mask &= ~(1L << slot);
+            }
+        }
+        return mask;
+    }
+}
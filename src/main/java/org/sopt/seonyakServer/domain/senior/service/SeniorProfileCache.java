@@ -0,0 +1,139 @@
+package org.sopt.seonyakServer.domain.senior.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.sopt.seonyakServer.domain.senior.event.SeniorChangedEvent;
+import org.sopt.seonyakServer.domain.senior.model.SeniorProfileSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 선배 상세/카드 프로필 2단 캐시 (L1: 서버 메모리, L2: Redis).
+ * 선배 정보가 바뀌면 커밋 이후 Redis 값을 지우고 pub/sub으로 모든 서버의 L1을 함께 비움.
+ * 선배별 세대(generation) 값을 두어, 무효화 이전에 DB를 읽은 로더가 무효화 이후에 옛 값을 Redis에 쓰지 못하게 함.
+ * Redis 장애 시에는 L1과 DB만으로 동작함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeniorProfileCache {
+
+    private static final String CACHE_NAME = "senior.profile";
+    private static final String KEY_PREFIX = "senior:profile:";
+    private static final String GENERATION_KEY_PREFIX = "senior:profile:gen:";
+    // 로드 전에 읽은 세대가 그대로일 때만 저장 (세대 키가 만료되었으면 0으로 봄)
+    private static final String SET_IF_GENERATION_SCRIPT = """
+            local generation = redis.call('get', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """;
+    static final String INVALIDATION_TOPIC = "senior:profile:invalidation";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${senior.profile-cache.local-ttl-seconds:300}")
+    private long localTtlSeconds;
+
+    @Value("${senior.profile-cache.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    private Cache<Long, SeniorProfileSnapshot> localCache;
+    private RTopic invalidationTopic;
+
+    @PostConstruct
+    protected void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, LongCodec.INSTANCE);
+        invalidationTopic.addListener(Long.class, (channel, seniorId) -> localCache.invalidate(seniorId));
+    }
+
+    public SeniorProfileSnapshot get(Long seniorId, Supplier<SeniorProfileSnapshot> loader) {
+        return localCache.get(seniorId, key -> loadFromRedis(key, loader));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(SeniorChangedEvent event) {
+        localCache.invalidate(event.seniorId());
+        try {
+            // 세대를 먼저 올려야 진행 중인 로더가 지운 뒤에 옛 값을 다시 쓰지 못함
+            RAtomicLong generation = generation(event.seniorId());
+            generation.incrementAndGet();
+            generation.expire(Duration.ofSeconds(redisTtlSeconds * 2));
+            bucket(event.seniorId()).delete();
+            invalidationTopic.publish(event.seniorId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict senior profile cache - seniorId: {}", event.seniorId(), e);
+        }
+    }
+
+    private SeniorProfileSnapshot loadFromRedis(Long seniorId, Supplier<SeniorProfileSnapshot> loader) {
+        RBucket<String> bucket = bucket(seniorId);
+        Long generation = null;
+        try {
+            String cached = bucket.get();
+            if (cached != null) {
+                return objectMapper.readValue(cached, SeniorProfileSnapshot.class);
+            }
+            generation = generation(seniorId).get();
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Failed to read senior profile cache - seniorId: {}", seniorId, e);
+        }
+
+        SeniorProfileSnapshot snapshot = loader.get();
+        // 세대를 읽지 못했으면 Redis에 쓰지 않음
+        if (generation == null) {
+            return snapshot;
+        }
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    SET_IF_GENERATION_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(bucket.getName(), generation(seniorId).getName()),
+                    String.valueOf(generation),
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(Duration.ofSeconds(redisTtlSeconds).toMillis()));
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Failed to write senior profile cache - seniorId: {}", seniorId, e);
+        }
+        return snapshot;
+    }
+
+    private RBucket<String> bucket(Long seniorId) {
+        return redissonClient.getBucket(KEY_PREFIX + seniorId, StringCodec.INSTANCE);
+    }
+
+    private RAtomicLong generation(Long seniorId) {
+        return redissonClient.getAtomicLong(GENERATION_KEY_PREFIX + seniorId);
+    }
+}
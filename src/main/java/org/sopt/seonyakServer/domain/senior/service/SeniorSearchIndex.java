@@ -0,0 +1,195 @@
+package org.sopt.seonyakServer.domain.senior.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorListResponse;
+import org.sopt.seonyakServer.domain.senior.event.SeniorChangedEvent;
+import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 선배 검색(/api/v1/senior/search)용 인메모리 인덱스.
+ * createdAt 순서로 정렬된 선배 목록과, 계열/직무별로 해당 선배의 위치를 담은 BitSet을 들고 있음.
+ * 조회는 읽기 락, 변경은 쓰기 락을 잡고 바뀐 선배의 위치 비트만 고침 (전체를 다시 만들지 않음).
+ * 전체 갱신 중에 들어온 변경은 따로 모아 두었다가 새 인덱스에 다시 반영하여, 갱신이 덮어써 잃지 않도록 함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeniorSearchIndex {
+
+    private final SeniorRepository seniorRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object reloadLock = new Object();
+
+    // lock으로 보호됨
+    private Index index;
+    private Map<Long, SeniorListResponse> upsertsDuringReload;
+
+    // 인덱스가 아직 로드되지 않았으면 QueryDSL 조회로 대체
+    public List<SeniorListResponse> search(List<String> fields, List<String> positions) {
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                return index.search(fields, positions);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return seniorRepository.searchSeniorFieldPosition(fields, positions);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRate = 300000, initialDelay = 300000) // 다른 서버에서 발생한 변경을 반영하기 위해 5분마다 전체 갱신
+    public void reload() {
+        synchronized (reloadLock) {
+            lock.writeLock().lock();
+            try {
+                upsertsDuringReload = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<SeniorListResponse> seniors;
+            try {
+                seniors = seniorRepository.searchSeniorFieldPosition(null, null);
+            } catch (RuntimeException e) {
+                clearUpsertsDuringReload();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                Index reloaded = Index.build(seniors);
+                // 조회 이후에 커밋되어 조회 결과에 없을 수 있는 변경을 다시 반영
+                upsertsDuringReload.values().forEach(reloaded::upsert);
+                upsertsDuringReload = null;
+                this.index = reloaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Senior search index loaded - {} seniors", seniors.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void refresh(SeniorChangedEvent event) {
+        seniorRepository.findSeniorListResponseById(event.seniorId())
+                .ifPresent(this::upsert);
+    }
+
+    private void upsert(SeniorListResponse senior) {
+        lock.writeLock().lock();
+        try {
+            if (upsertsDuringReload != null) {
+                upsertsDuringReload.put(senior.getSeniorId(), senior);
+            }
+            if (index != null) {
+                index.upsert(senior);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clearUpsertsDuringReload() {
+        lock.writeLock().lock();
+        try {
+            upsertsDuringReload = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 락 밖에서는 접근하지 않음
+    private static final class Index {
+
+        private final List<SeniorListResponse> seniors = new ArrayList<>();
+        private final Map<Long, Integer> indexBySeniorId = new HashMap<>();
+        private final Map<String, BitSet> fieldBits = new HashMap<>();
+        private final Map<String, BitSet> positionBits = new HashMap<>();
+
+        static Index build(List<SeniorListResponse> seniors) {
+            Index index = new Index();
+            seniors.forEach(index::upsert);
+            return index;
+        }
+
+        // 이미 있는 선배는 같은 위치에서 이전 계열/직무 비트만 지우고 새 비트를 켬
+        void upsert(SeniorListResponse senior) {
+            Integer position = indexBySeniorId.get(senior.getSeniorId());
+            if (position == null) {
+                // 새로 가입한 선배는 createdAt이 가장 늦으므로 맨 뒤에 추가
+                position = seniors.size();
+                seniors.add(senior);
+                indexBySeniorId.put(senior.getSeniorId(), position);
+            } else {
+                SeniorListResponse previous = seniors.set(position, senior);
+                clear(fieldBits, previous.getField(), position);
+                clear(positionBits, previous.getPosition(), position);
+            }
+            set(fieldBits, senior.getField(), position);
+            set(positionBits, senior.getPosition(), position);
+        }
+
+        List<SeniorListResponse> search(List<String> fields, List<String> positions) {
+            BitSet result = new BitSet(seniors.size());
+            result.set(0, seniors.size());
+
+            // 계열끼리는 OR, 계열과 직무는 AND
+            if (fields != null && !fields.isEmpty()) {
+                result.and(union(fieldBits, fields));
+            }
+            if (positions != null && !positions.isEmpty()) {
+                result.and(union(positionBits, positions));
+            }
+
+            List<SeniorListResponse> matched = new ArrayList<>(result.cardinality());
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                matched.add(seniors.get(i));
+            }
+            return matched;
+        }
+
+        private static void set(Map<String, BitSet> bits, String key, int position) {
+            if (key != null) {
+                bits.computeIfAbsent(key, k -> new BitSet()).set(position);
+            }
+        }
+
+        private static void clear(Map<String, BitSet> bits, String key, int position) {
+            if (key == null) {
+                return;
+            }
+            BitSet bitSet = bits.get(key);
+            if (bitSet != null) {
+                bitSet.clear(position);
+            }
+        }
+
+        private static BitSet union(Map<String, BitSet> bits, List<String> keys) {
+            BitSet union = new BitSet();
+            for (String key : keys) {
+                BitSet bitSet = bits.get(key);
+                if (bitSet != null) {
+                    union.or(bitSet);
+                }
+            }
+            return union;
+        }
+    }
+}
@@ -1,22 +1,28 @@
 package org.sopt.seonyakServer.domain.senior.service;
 
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.sopt.seonyakServer.domain.appointment.service.AppointmentService;
 import org.sopt.seonyakServer.domain.member.dto.MemberJoinRequest;
 import org.sopt.seonyakServer.domain.member.model.Member;
 import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorAvailabilityListResponse;
+import org.sopt.seonyakServer.domain.senior.dto.SeniorAvailabilityResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorCardProfileResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorFilterResponse;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorProfileRequest;
 import org.sopt.seonyakServer.domain.senior.dto.SeniorProfileResponse;
+import org.sopt.seonyakServer.domain.senior.event.SeniorChangedEvent;
 import org.sopt.seonyakServer.domain.senior.model.PreferredTimeList;
 import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.sopt.seonyakServer.domain.senior.model.SeniorProfileSnapshot;
 import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
 import org.sopt.seonyakServer.global.auth.PrincipalHandler;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +34,11 @@ public class SeniorService {
     private final SeniorRepository seniorRepository;
     private final AppointmentService appointmentService;
     private final PrincipalHandler principalHandler;
+    private final SeniorSearchIndex seniorSearchIndex;
+    private final SeniorProfileCache seniorProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_AVAILABILITY_IDS = 100;
 
     @Value("${aws-property.s3-bucket-name}")
     private String bucketName;
@@ -47,7 +58,10 @@ public class SeniorService {
                 .level(memberJoinRequest.level())
                 .build();
 
-        return seniorRepository.save(senior);
+        Senior savedSenior = seniorRepository.save(senior);
+        eventPublisher.publishEvent(SeniorChangedEvent.of(savedSenior.getId()));
+
+        return savedSenior;
     }
 
     @Transactional
@@ -62,6 +76,8 @@ public class SeniorService {
                 seniorProfileRequest.story(),
                 seniorProfileRequest.preferredTimeList()
         );
+
+        eventPublisher.publishEvent(SeniorChangedEvent.of(senior.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -74,39 +90,48 @@ public class SeniorService {
     public SeniorFilterResponse searchSeniorFieldPosition(List<String> field, List<String> position) {
         Member member = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal());
         return SeniorFilterResponse.of(member.getNickname(),
-                seniorRepository.searchSeniorFieldPosition(field, position));
+                seniorSearchIndex.search(field, position));
     }
 
     @Transactional(readOnly = true)
     public SeniorProfileResponse getSeniorProfile(final Long seniorId) {
-        Member member = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal());
-        Senior senior = seniorRepository.findSeniorByIdOrThrow(seniorId);
-
-        // 해당 선배와 PENDING, SCHEDULED인 약속이 있다면 불가능하게
-        boolean isAvailable = !appointmentService.isExistingAppointment(member.getId(), seniorId);
+        SeniorProfileSnapshot snapshot = getSeniorProfileSnapshot(seniorId);
 
-        return SeniorProfileResponse.of(
-                isAvailable,
-                senior.getLevel(),
-                senior.getCareer(),
-                senior.getAward(),
-                senior.getCatchphrase(),
-                senior.getStory()
+        // 해당 선배와 PENDING, SCHEDULED인 약속이 있다면 불가능하게 (조회자마다 다르므로 캐싱하지 않음)
+        boolean isAvailable = !appointmentService.isExistingAppointment(
+                principalHandler.getUserIdFromPrincipal(),
+                seniorId
         );
+
+        return snapshot.toProfileResponse(isAvailable);
     }
 
     @Transactional(readOnly = true)
     public SeniorCardProfileResponse getSeniorCardProfile(final Long seniorId) {
-        Senior senior = seniorRepository.findSeniorByIdOrThrow(seniorId);
+        return getSeniorProfileSnapshot(seniorId).toCardProfileResponse();
+    }
+
+    // 검색 결과 카드들의 약속 가능 여부를 한 번에 조회
+    @Transactional(readOnly = true)
+    public SeniorAvailabilityListResponse getSeniorAvailabilities(final List<Long> seniorIds) {
+        if (seniorIds.size() > MAX_AVAILABILITY_IDS) {
+            throw new CustomException(ErrorType.TOO_MANY_SENIOR_IDS_ERROR);
+        }
+
+        List<Long> distinctSeniorIds = seniorIds.stream().distinct().toList();
+        Set<Long> unavailableSeniorIds = appointmentService.findSeniorIdsWithExistingAppointment(
+                principalHandler.getUserIdFromPrincipal(),
+                distinctSeniorIds
+        );
+
+        return SeniorAvailabilityListResponse.of(distinctSeniorIds.stream()
+                .map(seniorId -> SeniorAvailabilityResponse.of(seniorId, !unavailableSeniorIds.contains(seniorId)))
+                .toList());
+    }
 
-        return SeniorCardProfileResponse.of(
-                senior.getMember().getNickname(),
-                senior.getCompany(),
-                senior.getMember().getField(),
-                senior.getPosition(),
-                senior.getDetailPosition(),
-                senior.getLevel(),
-                senior.getMember().getImage()
+    private SeniorProfileSnapshot getSeniorProfileSnapshot(final Long seniorId) {
+        return seniorProfileCache.get(seniorId, () ->
+                SeniorProfileSnapshot.from(seniorRepository.findSeniorByIdOrThrow(seniorId))
         );
     }
 }
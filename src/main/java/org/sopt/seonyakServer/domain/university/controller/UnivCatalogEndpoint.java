@@ -0,0 +1,28 @@
+package org.sopt.seonyakServer.domain.university.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.sopt.seonyakServer.domain.university.service.UnivCatalog;
+import org.sopt.seonyakServer.domain.university.service.UnivCatalog.CatalogStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/univcatalog : 적재 현황, POST /actuator/univcatalog : 다시 적재 (X-Admin-Token 헤더 필요)
+@Component
+@Endpoint(id = "univcatalog")
+@RequiredArgsConstructor
+public class UnivCatalogEndpoint {
+
+    private final UnivCatalog univCatalog;
+
+    @ReadOperation
+    public CatalogStats stats() {
+        return univCatalog.stats().orElse(null);
+    }
+
+    @WriteOperation
+    public CatalogStats reload() {
+        return univCatalog.reload();
+    }
+}
@@ -24,17 +24,19 @@ public class UnivController {
 
     @GetMapping("search/univ")
     public ResponseEntity<SearchUnivResponse> searchUniv(
-            @RequestParam final String univName
+            @RequestParam final String univName,
+            @RequestParam(defaultValue = "20") final int limit
     ) {
-        return ResponseEntity.ok(univService.searchUniv(univName));
+        return ResponseEntity.ok(univService.searchUniv(univName, limit));
     }
 
     @GetMapping("search/dept")
     public ResponseEntity<List<SearchDeptResponse>> searchDept(
             @RequestParam final String univName,
-            @RequestParam final String deptName
+            @RequestParam final String deptName,
+            @RequestParam(defaultValue = "20") final int limit
     ) {
-        return ResponseEntity.ok(univService.searchDept(univName, deptName));
+        return ResponseEntity.ok(univService.searchDept(univName, deptName, limit));
     }
 
     @PostMapping("/univ/verify")
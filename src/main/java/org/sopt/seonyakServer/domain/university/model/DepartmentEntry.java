@@ -0,0 +1,9 @@
+package org.sopt.seonyakServer.domain.university.model;
+
+// 카탈로그 적재용 (대학명, 학과명, 폐과 여부) 프로젝션
+public record DepartmentEntry(
+        String univName,
+        String deptName,
+        boolean isClosed
+) {
+}
@@ -1,20 +1,35 @@
 package org.sopt.seonyakServer.domain.university.repository;
 
 import java.util.List;
+import org.sopt.seonyakServer.domain.university.dto.SearchDeptResponse;
 import org.sopt.seonyakServer.domain.university.model.Department;
+import org.sopt.seonyakServer.domain.university.model.DepartmentEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface DeptRepository extends JpaRepository<Department, Long> {
 
-    @Query("SELECT d "
+    // 엔티티 대신 (학과명, 폐과 여부)만 학과명 기준으로 중복 없이 조회, 접두사 일치를 먼저 노출
+    // 같은 이름의 학과가 여러 개면 UnivCatalog와 같이 id가 가장 작은 행의 폐과 여부를 사용
+    @Query("SELECT new org.sopt.seonyakServer.domain.university.dto.SearchDeptResponse(d.deptName, d.isClosed) "
             + "FROM Department d "
             + "WHERE d.university.univName = :univName "
-            + "AND d.deptName "
-            + "LIKE %:deptName%")
-    List<Department> findByUnivIdAndDeptNameContaining(
+            + "AND d.deptName LIKE CONCAT('%', :deptName, '%') "
+            + "AND d.id = (SELECT MIN(d2.id) FROM Department d2 "
+            + "WHERE d2.university.univName = :univName AND d2.deptName = d.deptName) "
+            + "ORDER BY CASE WHEN d.deptName LIKE CONCAT(:deptName, '%') THEN 0 ELSE 1 END, "
+            + "LENGTH(d.deptName), d.deptName")
+    List<SearchDeptResponse> searchByUnivNameAndDeptName(
             @Param("univName") String univName,
-            @Param("deptName") String deptName
+            @Param("deptName") String deptName,
+            Pageable pageable
     );
+
+    @Query("SELECT new org.sopt.seonyakServer.domain.university.model.DepartmentEntry("
+            + "d.university.univName, d.deptName, d.isClosed) "
+            + "FROM Department d "
+            + "ORDER BY d.id")
+    List<DepartmentEntry> findAllDepartmentEntries();
 }
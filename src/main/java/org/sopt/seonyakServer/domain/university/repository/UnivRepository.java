@@ -2,17 +2,26 @@ package org.sopt.seonyakServer.domain.university.repository;
 
 import java.util.List;
 import org.sopt.seonyakServer.domain.university.model.University;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface UnivRepository extends JpaRepository<University, Long> {
 
+    // PostgreSQL에서는 pg_trgm GIN 인덱스(idx_university_univ_name_trgm)로 부분 일치 검색, 접두사 일치를 먼저 노출
     @Query("SELECT u.univName "
             + "FROM University u "
-            + "WHERE u.univName "
-            + "LIKE %:univNamePart%")
-    List<String> findByUnivNameContaining(@Param("univNamePart") String univNamePart);
+            + "WHERE u.univName LIKE CONCAT('%', :univNamePart, '%') "
+            + "ORDER BY CASE WHEN u.univName LIKE CONCAT(:univNamePart, '%') THEN 0 ELSE 1 END, "
+            + "LENGTH(u.univName), u.univName")
+    List<String> searchByUnivName(
+            @Param("univNamePart") String univNamePart,
+            Pageable pageable
+    );
 
     boolean existsByUnivName(String UnivName);
+
+    @Query("SELECT u.univName FROM University u")
+    List<String> findAllUnivNames();
 }
@@ -0,0 +1,122 @@
+package org.sopt.seonyakServer.domain.university.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 목록에 대한 부분 일치 검색용 bigram 역색인.
+ * 두 글자를 int 하나로 인코딩하여 키로 쓰고, 각 bigram이 등장하는 항목 번호를 정렬된 int[]로 들고 있음.
+ * 검색어의 bigram posting을 교집합한 뒤 실제 포함 여부를 확인하고, 접두사 일치 > 짧은 이름 > 사전순으로 정렬함.
+ */
+final class NgramIndex {
+
+    private final String[] entries;
+    private final Map<Integer, int[]> postings;
+
+    private NgramIndex(String[] entries, Map<Integer, int[]> postings) {
+        this.entries = entries;
+        this.postings = postings;
+    }
+
+    static NgramIndex build(List<String> values) {
+        String[] entries = values.toArray(String[]::new);
+        Map<Integer, List<Integer>> building = new HashMap<>();
+
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i];
+            for (int j = 0; j + 1 < entry.length(); j++) {
+                List<Integer> posting = building.computeIfAbsent(bigram(entry, j), key -> new ArrayList<>());
+                // 같은 항목에 같은 bigram이 여러 번 나와도 한 번만 기록
+                if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                    posting.add(i);
+                }
+            }
+        }
+
+        Map<Integer, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((key, posting) -> postings.put(key, posting.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new NgramIndex(entries, postings);
+    }
+
+    List<String> search(String keyword, int limit) {
+        int[] candidates = findCandidates(keyword);
+
+        List<String> matched = new ArrayList<>();
+        for (int candidate : candidates) {
+            if (entries[candidate].contains(keyword)) {
+                matched.add(entries[candidate]);
+            }
+        }
+
+        return matched.stream()
+                .sorted(Comparator.<String>comparingInt(entry -> entry.startsWith(keyword) ? 0 : 1)
+                        .thenComparingInt(String::length)
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    // 문자열, posting 배열, 해시맵 엔트리의 대략적인 바이트 수
+    long estimateBytes() {
+        long bytes = 16L + 4L * entries.length;
+        for (String entry : entries) {
+            bytes += 40L + 2L * entry.length();
+        }
+        for (int[] posting : postings.values()) {
+            bytes += 48L + 16L + 4L * posting.length;
+        }
+        return bytes;
+    }
+
+    private int[] findCandidates(String keyword) {
+        // 한 글자 검색어는 bigram을 만들 수 없으므로 전체가 후보
+        if (keyword.length() < 2) {
+            int[] all = new int[entries.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        int[] candidates = null;
+        for (int j = 0; j + 1 < keyword.length(); j++) {
+            int[] posting = postings.get(bigram(keyword, j));
+            if (posting == null) {
+                return new int[0];
+            }
+            candidates = candidates == null ? posting : intersect(candidates, posting);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static int bigram(String value, int index) {
+        return (value.charAt(index) << 16) | value.charAt(index + 1);
+    }
+}
@@ -0,0 +1,128 @@
+package org.sopt.seonyakServer.domain.university.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.seonyakServer.domain.university.dto.SearchDeptResponse;
+import org.sopt.seonyakServer.domain.university.model.DepartmentEntry;
+import org.sopt.seonyakServer.domain.university.repository.DeptRepository;
+import org.sopt.seonyakServer.domain.university.repository.UnivRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대학/학과 자동완성용 인메모리 카탈로그.
+ * 대학, 학과 테이블은 사실상 변하지 않는 참조 데이터이므로 기동 시 한 번 읽어 불변 Snapshot으로 들고 있고,
+ * 데이터가 바뀌면 Actuator univcatalog 엔드포인트(운영자 토큰 필요)로 다시 적재함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnivCatalog {
+
+    private final UnivRepository univRepository;
+    private final DeptRepository deptRepository;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public boolean containsUniv(String univName) {
+        return snapshot.departments().containsKey(univName);
+    }
+
+    public List<String> searchUniv(String univNamePart, int limit) {
+        return snapshot.univIndex().search(univNamePart, limit);
+    }
+
+    public List<SearchDeptResponse> searchDept(String univName, String deptName, int limit) {
+        DepartmentCatalog departmentCatalog = snapshot.departments().get(univName);
+        if (departmentCatalog == null) {
+            return List.of();
+        }
+
+        return departmentCatalog.deptIndex().search(deptName, limit).stream()
+                .map(name -> SearchDeptResponse.of(name, departmentCatalog.isClosed().get(name)))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized CatalogStats reload() {
+        Map<String, String> interned = new HashMap<>();
+        Map<String, Map<String, Boolean>> departmentsByUniv = new LinkedHashMap<>();
+
+        for (String univName : univRepository.findAllUnivNames()) {
+            departmentsByUniv.putIfAbsent(intern(interned, univName), new LinkedHashMap<>());
+        }
+        for (DepartmentEntry entry : deptRepository.findAllDepartmentEntries()) {
+            // 같은 이름의 학과는 먼저 나온 것(id가 가장 작은 것)만 사용, DeptRepository 검색과 같은 기준
+            departmentsByUniv.computeIfAbsent(intern(interned, entry.univName()), key -> new LinkedHashMap<>())
+                    .putIfAbsent(intern(interned, entry.deptName()), entry.isClosed());
+        }
+
+        Map<String, DepartmentCatalog> departments = new HashMap<>();
+        for (Map.Entry<String, Map<String, Boolean>> entry : departmentsByUniv.entrySet()) {
+            NgramIndex deptIndex = NgramIndex.build(new ArrayList<>(entry.getValue().keySet()));
+            departments.put(entry.getKey(), new DepartmentCatalog(deptIndex, Map.copyOf(entry.getValue())));
+        }
+        NgramIndex univIndex = NgramIndex.build(new ArrayList<>(departmentsByUniv.keySet()));
+
+        Snapshot loaded = new Snapshot(univIndex, departments);
+        this.snapshot = loaded;
+
+        CatalogStats stats = loaded.stats();
+        log.info("Univ catalog loaded - {} universities, {} departments, ~{} KB",
+                stats.universityCount(), stats.departmentCount(), stats.estimatedKilobytes());
+        return stats;
+    }
+
+    public Optional<CatalogStats> stats() {
+        return Optional.ofNullable(this.snapshot).map(Snapshot::stats);
+    }
+
+    // 대학마다 반복되는 학과명(ex. 경영학과)을 하나의 인스턴스로 공유
+    private static String intern(Map<String, String> interned, String value) {
+        return interned.computeIfAbsent(value, key -> key);
+    }
+
+    public record CatalogStats(
+            int universityCount,
+            long departmentCount,
+            long estimatedKilobytes
+    ) {
+    }
+
+    private record DepartmentCatalog(
+            NgramIndex deptIndex,
+            Map<String, Boolean> isClosed
+    ) {
+        // 인덱스 + 학과별 폐과 여부 Map 항목(약 64바이트)
+        long estimateBytes() {
+            return deptIndex.estimateBytes() + 64L * isClosed.size();
+        }
+    }
+
+    private record Snapshot(
+            NgramIndex univIndex,
+            Map<String, DepartmentCatalog> departments
+    ) {
+        // 적재 직후와 조회 시 같은 Snapshot이면 같은 값을 내도록 한 곳에서 계산
+        CatalogStats stats() {
+            long departmentCount = 0;
+            long bytes = univIndex.estimateBytes();
+            for (DepartmentCatalog departmentCatalog : departments.values()) {
+                departmentCount += departmentCatalog.deptIndex().size();
+                bytes += departmentCatalog.estimateBytes();
+            }
+            return new CatalogStats(univIndex.size(), departmentCount, bytes / 1024);
+        }
+    }
+}
@@ -2,23 +2,21 @@ package org.sopt.seonyakServer.domain.university.service;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.sopt.seonyakServer.domain.university.dto.SearchDeptResponse;
 import org.sopt.seonyakServer.domain.university.dto.SearchUnivResponse;
 import org.sopt.seonyakServer.domain.university.dto.UnivVerifyCodeRequest;
 import org.sopt.seonyakServer.domain.university.dto.UnivVerifyRequest;
-import org.sopt.seonyakServer.domain.university.model.Department;
 import org.sopt.seonyakServer.domain.university.model.UniversityEmail;
 import org.sopt.seonyakServer.domain.university.repository.DeptRepository;
 import org.sopt.seonyakServer.domain.university.repository.UnivRepository;
 import org.sopt.seonyakServer.domain.university.repository.UniversityEmailRepository;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -33,33 +31,51 @@ public class UnivService {
     private final JavaMailSender javaMailSender;
     private final UniversityEmailRepository universityEmailRepository;
     private final UnivCodeService univCodeService;
+    private final UnivCatalog univCatalog;
 
-    public SearchUnivResponse searchUniv(final String univNamePart) {
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    public SearchUnivResponse searchUniv(
+            final String univNamePart,
+            final int limit
+    ) {
         if (univNamePart == null || univNamePart.trim().isEmpty()) {
             return SearchUnivResponse.of(List.of());
         }
 
-        return SearchUnivResponse.of(univRepository.findByUnivNameContaining(univNamePart));
+        // 카탈로그가 적재되기 전에는 DB로 조회
+        if (univCatalog.isLoaded()) {
+            return SearchUnivResponse.of(univCatalog.searchUniv(univNamePart, clampLimit(limit)));
+        }
+        return SearchUnivResponse.of(univRepository.searchByUnivName(univNamePart, toPageable(limit)));
     }
 
     public List<SearchDeptResponse> searchDept(
             final String univName,
-            final String deptName
+            final String deptName,
+            final int limit
     ) {
+        if (univCatalog.isLoaded()) {
+            if (!univCatalog.containsUniv(univName)) {
+                throw new CustomException(ErrorType.INVALID_UNIV_NAME_ERROR);
+            }
+            return univCatalog.searchDept(univName, deptName, clampLimit(limit));
+        }
+
         if (!univRepository.existsByUnivName(univName)) {
             throw new CustomException(ErrorType.INVALID_UNIV_NAME_ERROR);
         }
 
-        List<Department> departments = deptRepository.findByUnivIdAndDeptNameContaining(univName, deptName);
-        Set<String> uniqueDeptNames = new HashSet<>();
+        return deptRepository.searchByUnivNameAndDeptName(univName, deptName, toPageable(limit));
+    }
+
+    // 자동완성 결과 개수 제한 (1 ~ MAX_SEARCH_LIMIT)
+    private int clampLimit(final int limit) {
+        return Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+    }
 
-        return departments.stream()
-                .filter(department -> uniqueDeptNames.add(department.getDeptName()))
-                .map(department -> SearchDeptResponse.of(
-                        department.getDeptName(),
-                        department.isClosed())
-                )
-                .collect(Collectors.toList());
+    private Pageable toPageable(final int limit) {
+        return PageRequest.of(0, clampLimit(limit));
     }
 
     public void verifyEmail(UnivVerifyRequest univVerifyRequest) {
@@ -1,7 +1,5 @@
 package org.sopt.seonyakServer.global.auth.filter;
 
-import static org.sopt.seonyakServer.global.auth.jwt.JwtValidationType.VALID_JWT;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,10 +10,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.seonyakServer.global.auth.MemberAuthentication;
 import org.sopt.seonyakServer.global.auth.jwt.JwtTokenProvider;
+import org.sopt.seonyakServer.global.auth.jwt.JwtValidationResult;
+import org.sopt.seonyakServer.global.auth.jwt.VerifiedTokenCache;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,6 +25,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // 각 HTTP 요청에 대해 토큰이 유효한지 확인하고, 유효하다면 해당 사용자를 인증 설정하는 필터링 로직
     @Override
@@ -35,12 +35,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String token = getJwtFromRequest(request);
 
-            if (jwtTokenProvider.validateToken(token) == VALID_JWT) {
-                Long memberId = jwtTokenProvider.getMemberIdFromJwt(token);
+            final JwtValidationResult validationResult = verifyToken(token);
+
+            if (validationResult.isValid()) {
+                Long memberId = validationResult.memberId();
 
                 // authentication 객체 생성 -> principal에 유저정보를 담는다.
                 MemberAuthentication authentication = new MemberAuthentication(memberId.toString(), null, null);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception exception) {
@@ -55,6 +56,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 최근에 검증한 토큰이면 캐시된 결과를 사용
+    private JwtValidationResult verifyToken(String token) {
+        if (token == null) {
+            return jwtTokenProvider.verifyToken(null);
+        }
+
+        JwtValidationResult cached = verifiedTokenCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtValidationResult validationResult = jwtTokenProvider.verifyToken(token);
+        verifiedTokenCache.put(token, validationResult);
+        return validationResult;
+    }
+
     // Authorization 헤더에서 JWT 토큰을 추출
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
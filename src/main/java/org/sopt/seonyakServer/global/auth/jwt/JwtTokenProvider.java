@@ -3,10 +3,12 @@ package org.sopt.seonyakServer.global.auth.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -29,10 +31,18 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String JWT_SECRET;
 
+    // 서명 키와 파서는 불변이고 thread-safe 하므로 시작 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     @PostConstruct
     protected void init() {
         //base64 라이브러리에서 encodeToString을 이용해서 byte[] 형식을 String 형식으로 변환
         JWT_SECRET = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        signingKey = createSigningKey();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String issueAccessToken(final Authentication authentication) {
@@ -54,43 +64,41 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE) // Header
                 .setClaims(claims) // Claim
-                .signWith(getSigningKey()) // Signature
+                .signWith(signingKey) // Signature
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
+    private SecretKey createSigningKey() {
         String encodedKey = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes()); // SecretKey를 통해 서명 생성
 
         // 일반적으로 HMAC (Hash-based Message Authentication Code) 알고리즘을 사용
         return Keys.hmacShaKeyFor(encodedKey.getBytes());
     }
 
-    public JwtValidationType validateToken(String token) {
+    // 토큰을 한 번만 파싱하여 검증 결과와 memberId를 함께 반환
+    public JwtValidationResult verifyToken(String token) {
         try {
             final Claims claims = getBody(token);
-            return JwtValidationType.VALID_JWT;
+            return JwtValidationResult.valid(
+                    Long.valueOf(claims.get(MEMBER_ID).toString()),
+                    claims.getExpiration().toInstant()
+            );
         } catch (MalformedJwtException ex) {
-            return JwtValidationType.INVALID_JWT_TOKEN;
+            return JwtValidationResult.invalid(JwtValidationType.INVALID_JWT_TOKEN);
         } catch (ExpiredJwtException ex) {
-            return JwtValidationType.EXPIRED_JWT_TOKEN;
+            return JwtValidationResult.invalid(JwtValidationType.EXPIRED_JWT_TOKEN);
         } catch (UnsupportedJwtException ex) {
-            return JwtValidationType.UNSUPPORTED_JWT_TOKEN;
+            return JwtValidationResult.invalid(JwtValidationType.UNSUPPORTED_JWT_TOKEN);
+        } catch (SignatureException ex) {
+            return JwtValidationResult.invalid(JwtValidationType.INVALID_JWT_SIGNATURE);
         } catch (IllegalArgumentException ex) {
-            return JwtValidationType.EMPTY_JWT;
+            return JwtValidationResult.invalid(JwtValidationType.EMPTY_JWT);
         }
     }
 
     private Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    public Long getMemberIdFromJwt(String token) {
-        Claims claims = getBody(token);
-
-        return Long.valueOf(claims.get(MEMBER_ID).toString());
-    }
 }
@@ -0,0 +1,22 @@
+package org.sopt.seonyakServer.global.auth.jwt;
+
+import java.time.Instant;
+
+// 토큰 한 번의 파싱으로 검증 결과와 memberId, 만료 시각을 함께 반환
+public record JwtValidationResult(
+        JwtValidationType validationType,
+        Long memberId,
+        Instant expiresAt
+) {
+    public static JwtValidationResult valid(final Long memberId, final Instant expiresAt) {
+        return new JwtValidationResult(JwtValidationType.VALID_JWT, memberId, expiresAt);
+    }
+
+    public static JwtValidationResult invalid(final JwtValidationType validationType) {
+        return new JwtValidationResult(validationType, null, null);
+    }
+
+    public boolean isValid() {
+        return validationType == JwtValidationType.VALID_JWT;
+    }
+}
@@ -0,0 +1,83 @@
+package org.sopt.seonyakServer.global.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 토큰의 결과를 짧게 캐싱하여 같은 토큰에 대한 HMAC 검증, Claim 역직렬화를 생략함.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 만료 시간은 TTL과 토큰 자체의 exp 중 더 이른 시각으로 잡음.
+ * 적중/실패 횟수는 Actuator의 cache.gets 메트릭(cache=jwt.verified-token)으로 확인 가능.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final Cache<String, JwtValidationResult> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.verified-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtValidationResult>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtValidationResult value, long currentTime) {
+                        Duration untilExpired = Duration.between(Instant.now(), value.expiresAt());
+                        Duration expireAfter = untilExpired.compareTo(ttl) < 0 ? untilExpired : ttl;
+                        return Math.max(expireAfter.toNanos(), 0L);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtValidationResult value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtValidationResult value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public JwtValidationResult getIfPresent(String token) {
+        return cache.getIfPresent(hash(token));
+    }
+
+    // 유효한 토큰만 캐싱
+    public void put(String token, JwtValidationResult validationResult) {
+        if (validationResult.isValid() && validationResult.expiresAt() != null) {
+            cache.put(hash(token), validationResult);
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
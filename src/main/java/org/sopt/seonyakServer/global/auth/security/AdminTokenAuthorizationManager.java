@@ -0,0 +1,37 @@
+package org.sopt.seonyakServer.global.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * actuator 쓰기/삭제 작업(ex. 대학 카탈로그 재적재)을 운영자용 토큰으로만 허용.
+ * 회원 JWT와 별개로 X-Admin-Token 헤더가 설정값과 같을 때만 통과하며, 설정값이 비어 있으면 모두 거절함.
+ */
+@Component
+public class AdminTokenAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] adminToken;
+
+    public AdminTokenAuthorizationManager(@Value("${management.admin-token:}") String adminToken) {
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String token = context.getRequest().getHeader(HEADER);
+        if (adminToken.length == 0 || token == null) {
+            return new AuthorizationDecision(false);
+        }
+        // 토큰 비교 시간으로 값을 추측하지 못하도록 상수 시간 비교
+        return new AuthorizationDecision(MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
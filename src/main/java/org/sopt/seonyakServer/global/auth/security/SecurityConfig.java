@@ -6,6 +6,7 @@ import org.sopt.seonyakServer.global.auth.filter.CustomJwtAuthenticationEntryPoi
 import org.sopt.seonyakServer.global.auth.filter.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -22,6 +23,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomJwtAuthenticationEntryPoint customJwtAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final AdminTokenAuthorizationManager adminTokenAuthorizationManager;
 
     private static final String[] AUTH_WHITE_LIST = {
             "/api/v1/**",
@@ -48,6 +50,9 @@ public class SecurityConfig {
                 });
 
         http.authorizeHttpRequests(auth -> {
+                    // actuator 쓰기/삭제 작업(ex. 대학 카탈로그 재적재)은 회원 JWT가 아닌 운영자 토큰으로만 허용
+                    auth.requestMatchers(HttpMethod.POST, "/actuator/**").access(adminTokenAuthorizationManager);
+                    auth.requestMatchers(HttpMethod.DELETE, "/actuator/**").access(adminTokenAuthorizationManager);
                     auth.requestMatchers(AUTH_WHITE_LIST).permitAll();
                     auth.anyRequest().authenticated();
                 })
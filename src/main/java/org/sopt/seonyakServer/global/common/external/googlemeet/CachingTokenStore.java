@@ -0,0 +1,113 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import com.google.auth.oauth2.TokenStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TokenStore 앞단의 write-through 메모리 캐시.
+ * - load: ttl 이내에 읽거나 쓴 값이 있으면 S3를 거치지 않음 (다른 서버가 갱신한 토큰은 ttl 후 반영)
+ * - store: 캐시와 같은 토큰이면 S3 쓰기를 생략하고, 다르면 캐시를 바꾼 뒤 S3에 씀
+ * - 같은 서버 안에서는 id별 락으로 캐시와 S3 쓰기 순서를 맞춤 (서버 간 동시 갱신은 S3의 마지막 쓰기가 남음)
+ */
+public class CachingTokenStore implements TokenStore {
+
+    private final TokenStore delegate;
+    private final Duration ttl;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private final Counter s3Loads;
+    private final Counter s3Stores;
+    private final Counter s3Deletes;
+    private final Counter savedLoads;
+    private final Counter savedStores;
+
+    public CachingTokenStore(TokenStore delegate, Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.s3Loads = counter(meterRegistry, "google.token-store.s3.calls", "load");
+        this.s3Stores = counter(meterRegistry, "google.token-store.s3.calls", "store");
+        this.s3Deletes = counter(meterRegistry, "google.token-store.s3.calls", "delete");
+        this.savedLoads = counter(meterRegistry, "google.token-store.s3.saved", "load");
+        this.savedStores = counter(meterRegistry, "google.token-store.s3.saved", "store");
+    }
+
+    @Override
+    public String load(String id) throws IOException {
+        Entry cached = entries.get(id);
+        if (cached != null && !cached.isExpired(ttl)) {
+            savedLoads.increment();
+            return cached.token();
+        }
+
+        synchronized (lockFor(id)) {
+            // 락을 기다리는 동안 다른 스레드가 읽어왔거나 새 토큰을 저장한 경우
+            Entry current = entries.get(id);
+            if (current != null && current != cached && !current.isExpired(ttl)) {
+                savedLoads.increment();
+                return current.token();
+            }
+
+            s3Loads.increment();
+            String token = delegate.load(id);
+            if (token != null) {
+                entries.put(id, Entry.of(token));
+            }
+            return token;
+        }
+    }
+
+    @Override
+    public void store(String id, String token) throws IOException {
+        synchronized (lockFor(id)) {
+            Entry current = entries.get(id);
+            if (current != null && Objects.equals(current.token(), token)) {
+                savedStores.increment();
+                entries.put(id, Entry.of(token));
+                return;
+            }
+
+            entries.put(id, Entry.of(token));
+            s3Stores.increment();
+            delegate.store(id, token);
+        }
+    }
+
+    @Override
+    public void delete(String id) throws IOException {
+        synchronized (lockFor(id)) {
+            entries.remove(id);
+            s3Deletes.increment();
+            delegate.delete(id);
+        }
+    }
+
+    private Object lockFor(String id) {
+        return locks.computeIfAbsent(id, key -> new Object());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record Entry(
+            String token,
+            long cachedAtNanos
+    ) {
+        static Entry of(String token) {
+            return new Entry(token, System.nanoTime());
+        }
+
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - cachedAtNanos > ttl.toNanos();
+        }
+    }
+}
@@ -2,31 +2,28 @@ package org.sopt.seonyakServer.global.common.external.googlemeet;
 
 import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
 import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.apps.meet.v2.SpacesServiceClient;
 import com.google.apps.meet.v2.SpacesServiceSettings;
 import com.google.auth.Credentials;
 import com.google.auth.oauth2.ClientId;
 import com.google.auth.oauth2.DefaultPKCEProvider;
 import com.google.auth.oauth2.TokenStore;
 import com.google.auth.oauth2.UserAuthorizer;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Configuration
-@Slf4j
 public class GoogleMeetConfig {
 
     @Value("${google.credentials.oauth2.callback.uri}")
@@ -41,56 +38,19 @@ public class GoogleMeetConfig {
     @Value("${aws-property.s3-bucket-name}")
     private String bucketName;
 
+    // 다른 서버가 갱신한 토큰을 다시 읽어오기까지의 최대 시간
+    @Value("${google.credentials.tokens.cache-ttl-minutes:10}")
+    private long tokenCacheTtlMinutes;
+
     private static final String USER = "default";
 
     @Bean
-    public TokenStore tokenStore(S3Client s3Client) {
-        return new TokenStore() {
-            private String s3KeyFor(String id) {
-                return tokensDirectoryPath + "/" + id + ".json";
-            }
-
-            @Override
-            public String load(String id) throws IOException {
-                String key = s3KeyFor(id);
-                try {
-                    InputStream inputStream = s3Client.getObject(GetObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(key)
-                            .build());
-                    return new String(inputStream.readAllBytes());
-                } catch (Exception e) {
-                    log.error("Failed to load token from S3: " + e.getMessage(), e);
-                    return null;
-                }
-            }
-
-            @Override
-            public void store(String id, String token) throws IOException {
-                String key = s3KeyFor(id);
-                try {
-                    s3Client.putObject(PutObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(key)
-                            .build(), RequestBody.fromString(token));
-                } catch (Exception e) {
-                    log.error("Failed to store token in S3: " + e.getMessage(), e);
-                }
-            }
-
-            @Override
-            public void delete(String id) throws IOException {
-                String key = s3KeyFor(id);
-                try {
-                    s3Client.deleteObject(DeleteObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(key)
-                            .build());
-                } catch (Exception e) {
-                    log.error("Failed to delete token from S3: " + e.getMessage(), e);
-                }
-            }
-        };
+    public TokenStore tokenStore(S3Client s3Client, MeterRegistry meterRegistry) {
+        return new CachingTokenStore(
+                new S3TokenStore(s3Client, bucketName, tokensDirectoryPath),
+                Duration.ofMinutes(tokenCacheTtlMinutes),
+                meterRegistry
+        );
     }
 
     @Bean
@@ -125,6 +85,12 @@ public class GoogleMeetConfig {
                 .build();
     }
 
+    // 요청마다 클라이언트를 만들지 않고 하나를 공유, 종료 시 gRPC 채널 정리
+    @Bean(destroyMethod = "close")
+    public SpacesServiceClient spacesServiceClient(SpacesServiceSettings spacesServiceSettings) throws IOException {
+        return SpacesServiceClient.create(spacesServiceSettings);
+    }
+
     @Bean
     public Credentials credentials(UserAuthorizer userAuthorizer, LocalServerReceiver localServerReceiver)
             throws Exception {
@@ -0,0 +1,23 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import com.google.apps.meet.v2.CreateSpaceRequest;
+import com.google.apps.meet.v2.Space;
+import com.google.apps.meet.v2.SpacesServiceClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleMeetSpaceClient implements MeetSpaceClient {
+
+    // 애플리케이션 전체에서 하나의 gRPC 채널을 공유
+    private final SpacesServiceClient spacesServiceClient;
+
+    @Override
+    public String createSpace() {
+        CreateSpaceRequest request = CreateSpaceRequest.newBuilder()
+                .setSpace(Space.newBuilder().build())
+                .build();
+        return spacesServiceClient.createSpace(request).getMeetingUri();
+    }
+}
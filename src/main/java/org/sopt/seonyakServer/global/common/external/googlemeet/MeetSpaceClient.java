@@ -0,0 +1,8 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+// Meet 스페이스 생성 API 추상화 (테스트에서는 로컬 fake로 대체)
+public interface MeetSpaceClient {
+
+    // 새 Meet 스페이스를 만들고 회의 URL을 반환
+    String createSpace();
+}
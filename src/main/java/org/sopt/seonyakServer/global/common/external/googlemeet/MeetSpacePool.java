@@ -0,0 +1,50 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리 만들어둔 Meet 스페이스 URL 풀.
+ * 백그라운드에서 google.meet.pool.size 만큼 채워두고, 요청 시 하나씩 꺼내줌.
+ * 풀이 비어 있거나 size가 0이면 그 자리에서 바로 생성함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetSpacePool {
+
+    private final MeetSpaceClient meetSpaceClient;
+
+    @Value("${google.meet.pool.size:0}")
+    private int poolSize;
+
+    private final BlockingQueue<String> meetingUris = new LinkedBlockingQueue<>();
+
+    public String take() {
+        String meetingUri = meetingUris.poll();
+        if (meetingUri != null) {
+            return meetingUri;
+        }
+        return meetSpaceClient.createSpace();
+    }
+
+    @Scheduled(fixedDelayString = "${google.meet.pool.refill-delay-millis:10000}")
+    public void refill() {
+        try {
+            while (meetingUris.size() < poolSize) {
+                meetingUris.offer(meetSpaceClient.createSpace());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refill Meet space pool ({}/{})", meetingUris.size(), poolSize, e);
+        }
+    }
+
+    public int size() {
+        return meetingUris.size();
+    }
+}
@@ -0,0 +1,66 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import com.google.auth.oauth2.TokenStore;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+// Google OAuth 토큰을 S3 {tokensDirectoryPath}/{id}.json에 저장
+@RequiredArgsConstructor
+@Slf4j
+public class S3TokenStore implements TokenStore {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String tokensDirectoryPath;
+
+    private String s3KeyFor(String id) {
+        return tokensDirectoryPath + "/" + id + ".json";
+    }
+
+    @Override
+    public String load(String id) throws IOException {
+        String key = s3KeyFor(id);
+        try (InputStream inputStream = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build())) {
+            return new String(inputStream.readAllBytes());
+        } catch (Exception e) {
+            log.error("Failed to load token from S3: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void store(String id, String token) throws IOException {
+        String key = s3KeyFor(id);
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build(), RequestBody.fromString(token));
+        } catch (Exception e) {
+            log.error("Failed to store token in S3: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String id) throws IOException {
+        String key = s3KeyFor(id);
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to delete token from S3: " + e.getMessage(), e);
+        }
+    }
+}
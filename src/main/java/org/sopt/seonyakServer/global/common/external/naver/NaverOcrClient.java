@@ -0,0 +1,166 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 네이버 OCR API 호출용 클라이언트.
+ * keep-alive 커넥션을 재사용하는 HttpClient 하나를 공유하고, 이미지는 메모리에 올리지 않고 multipart 바디로 바로 흘려보냄.
+ * 동시 요청 수는 maxConcurrency로 제한하며, 초과분은 대기시키지 않고 바로 거절함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NaverOcrClient {
+
+    private static final String CRLF = "\r\n";
+
+    private final OcrConfig ocrConfig;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+    private Semaphore permits;
+
+    @PostConstruct
+    protected void init() {
+        executor = Executors.newFixedThreadPool(
+                ocrConfig.getMaxConcurrency(),
+                new CustomizableThreadFactory("naver-ocr-")
+        );
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(ocrConfig.getConnectTimeoutMillis()))
+                .executor(executor)
+                .build();
+        permits = new Semaphore(ocrConfig.getMaxConcurrency());
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> request(String apiUrl, String apiKey, MultipartFile file) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new CustomException(ErrorType.OCR_BUSY_ERROR));
+        }
+
+        try {
+            String boundary = "----" + UUID.randomUUID().toString().replaceAll("-", "");
+            HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl))
+                    .timeout(Duration.ofMillis(ocrConfig.getReadTimeoutMillis()))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .header("X-OCR-SECRET", apiKey)
+                    .POST(createMultipartBody(boundary, createMessage(), file))
+                    .build();
+
+            return httpClient.sendAsync(request, BodyHandlers.ofString(StandardCharsets.UTF_8))
+                    .whenComplete((response, throwable) -> permits.release())
+                    .handle(this::toResponseBody);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 네이버 OCR API 요청 메시지
+    private String createMessage() {
+        JSONObject json = new JSONObject();
+        json.put("version", "V2");
+        json.put("requestId", UUID.randomUUID().toString());
+        json.put("timestamp", System.currentTimeMillis());
+        JSONObject image = new JSONObject();
+        image.put("format", "jpg");
+        image.put("name", "demo");
+        JSONArray images = new JSONArray();
+        images.put(image);
+        json.put("images", images);
+        return json.toString();
+    }
+
+    // 네이버 공식문서의 multipart 형식 그대로, 파일 파트는 전송 시점에 InputStream에서 바로 읽음
+    private BodyPublisher createMultipartBody(String boundary, String message, MultipartFile file) {
+        byte[] messagePart = ("--" + boundary + CRLF
+                + "Content-Disposition:form-data; name=\"message\"" + CRLF + CRLF
+                + message + CRLF).getBytes(StandardCharsets.UTF_8);
+        byte[] closing = ("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8);
+
+        if (file.isEmpty()) {
+            return BodyPublishers.concat(BodyPublishers.ofByteArray(messagePart), BodyPublishers.ofByteArray(closing));
+        }
+
+        byte[] fileHeader = ("--" + boundary + CRLF
+                + "Content-Disposition:form-data; name=\"file\"; filename=\"" + file.getOriginalFilename() + "\"" + CRLF
+                + "Content-Type: application/octet-stream" + CRLF + CRLF).getBytes(StandardCharsets.UTF_8);
+        byte[] fileTrailer = CRLF.getBytes(StandardCharsets.UTF_8);
+
+        // 길이를 알려줘야 chunked 전송 대신 Content-Length가 붙음
+        BodyPublisher filePart = BodyPublishers.fromPublisher(
+                BodyPublishers.ofInputStream(() -> openInputStream(file)),
+                file.getSize()
+        );
+
+        return BodyPublishers.concat(
+                BodyPublishers.ofByteArray(messagePart),
+                BodyPublishers.ofByteArray(fileHeader),
+                filePart,
+                BodyPublishers.ofByteArray(fileTrailer),
+                BodyPublishers.ofByteArray(closing)
+        );
+    }
+
+    private InputStream openInputStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toResponseBody(HttpResponse<String> response, Throwable throwable) {
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            if (cause instanceof HttpTimeoutException) {
+                throw new CustomException(ErrorType.OCR_TIMEOUT_ERROR);
+            }
+            log.error("Naver OCR request failed", cause);
+            throw new CustomException(ErrorType.OCR_REQUEST_ERROR);
+        }
+
+        if (response.statusCode() != 200) {
+            log.warn("Naver OCR responded with status {}", response.statusCode());
+            throw new CustomException(ErrorType.OCR_REQUEST_ERROR);
+        }
+        return response.body();
+    }
+}
@@ -20,4 +20,13 @@ public class OcrConfig {
     @Value("${naver.ocr.api.business-key}")
     private String businessKey;
 
+    @Value("${naver.ocr.client.connect-timeout-millis:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${naver.ocr.client.read-timeout-millis:20000}")
+    private long readTimeoutMillis;
+
+    // 동시에 네이버로 나갈 수 있는 OCR 요청 수
+    @Value("${naver.ocr.client.max-concurrency:16}")
+    private int maxConcurrency;
 }
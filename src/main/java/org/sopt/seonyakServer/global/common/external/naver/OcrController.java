@@ -1,6 +1,6 @@
 package org.sopt.seonyakServer.global.common.external.naver;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.sopt.seonyakServer.global.common.external.naver.dto.OcrBusinessResponse;
 import org.sopt.seonyakServer.global.common.external.naver.dto.OcrUnivResponse;
@@ -19,14 +19,16 @@ public class OcrController {
     private final OcrService ocrService;
 
     @PostMapping("/univ")
-    public ResponseEntity<OcrUnivResponse> ocrUniv(@RequestParam("imageFile") MultipartFile file)
-            throws IOException {
-        return ResponseEntity.ok(ocrService.ocrUniv(file));
+    public CompletableFuture<ResponseEntity<OcrUnivResponse>> ocrUniv(
+            @RequestParam("imageFile") MultipartFile file
+    ) {
+        return ocrService.ocrUniv(file).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/business-card")
-    public ResponseEntity<OcrBusinessResponse> ocrBusiness(@RequestParam("imageFile") MultipartFile file)
-            throws IOException {
-        return ResponseEntity.ok(ocrService.ocrBusiness(file));
+    public CompletableFuture<ResponseEntity<OcrBusinessResponse>> ocrBusiness(
+            @RequestParam("imageFile") MultipartFile file
+    ) {
+        return ocrService.ocrBusiness(file).thenApply(ResponseEntity::ok);
     }
 }
@@ -0,0 +1,65 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네이버 OCR 응답 파서.
+ * 응답을 한 번만 트리로 읽고 images 배열을 한 번 순회하면서 inferResult, "대학교"가 포함된 inferText,
+ * 명함의 company/mobile 값을 함께 뽑아냄.
+ */
+@Component
+@RequiredArgsConstructor
+public class OcrResponseParser {
+
+    private static final Pattern UNIV_PATTERN = Pattern.compile(".*?대학교");
+
+    private final ObjectMapper objectMapper;
+
+    public OcrResult parse(String response) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(response);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorType.OCR_REQUEST_ERROR);
+        }
+
+        StringJoiner inferResult = new StringJoiner(",");
+        List<String> univNames = new ArrayList<>();
+        StringJoiner company = new StringJoiner(", ");
+        StringJoiner mobile = new StringJoiner(", ");
+
+        for (JsonNode image : root.path("images")) {
+            inferResult.add(image.path("inferResult").asText());
+
+            for (JsonNode field : image.path("fields")) {
+                Matcher matcher = UNIV_PATTERN.matcher(field.path("inferText").asText());
+                if (matcher.find()) {
+                    univNames.add(matcher.group());
+                }
+            }
+
+            JsonNode nameCardResult = image.path("nameCard").path("result");
+            appendTexts(nameCardResult.path("company"), company);
+            appendTexts(nameCardResult.path("mobile"), mobile);
+        }
+
+        return new OcrResult(inferResult.toString(), univNames, company.toString(), mobile.toString());
+    }
+
+    private void appendTexts(JsonNode textArray, StringJoiner joiner) {
+        for (JsonNode text : textArray) {
+            joiner.add(text.path("text").asText());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import java.util.List;
+
+// 네이버 OCR 응답을 한 번 파싱해서 필요한 값만 모아둔 결과
+public record OcrResult(
+        String inferResult,
+        List<String> univNames,
+        String company,
+        String mobile
+) {
+    public boolean isFailure() {
+        return "FAILURE".equals(inferResult);
+    }
+}
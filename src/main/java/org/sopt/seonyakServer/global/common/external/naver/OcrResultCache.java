@@ -0,0 +1,87 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.TypedJsonJacksonCodec;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 같은 이미지로 OCR을 다시 요청하는 경우 네이버 OCR을 호출하지 않도록 응답을 Redis에 캐싱함.
+ * 키는 OCR 종류 + 이미지 바이트의 SHA-256이며, 성공한 응답만 저장함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrResultCache {
+
+    private static final String KEY_PREFIX = "ocr:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${naver.ocr.cache.ttl-hours:24}")
+    private long ttlHours;
+
+    public <T> CompletableFuture<T> getOrLoad(
+            String ocrType,
+            MultipartFile file,
+            Class<T> responseType,
+            Supplier<CompletableFuture<T>> loader
+    ) {
+        RBucket<T> bucket = redissonClient.getBucket(
+                KEY_PREFIX + ocrType + ":" + hash(file),
+                new TypedJsonJacksonCodec(responseType, objectMapper)
+        );
+
+        // Redis 장애 시에는 캐시 없이 OCR 호출
+        return bucket.getAsync().toCompletableFuture()
+                .exceptionally(throwable -> {
+                    log.warn("OCR cache read failed", throwable);
+                    return null;
+                })
+                .thenCompose(cached -> {
+                    if (cached != null) {
+                        return CompletableFuture.completedFuture(cached);
+                    }
+                    return loader.get().thenApply(response -> {
+                        bucket.setAsync(response, Duration.ofHours(ttlHours))
+                                .whenComplete((result, throwable) -> {
+                                    if (throwable != null) {
+                                        log.warn("OCR cache write failed", throwable);
+                                    }
+                                });
+                        return response;
+                    });
+                });
+    }
+
+    // 이미지를 바이트 배열로 복사하지 않고 InputStream을 읽으면서 해시 계산
+    private String hash(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, count);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomException(ErrorType.OCR_REQUEST_ERROR);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.sopt.seonyakServer.global.common.external.s3;
+
+/**
+ * 프로필 이미지 썸네일 경로 규칙.
+ * 원본 profiles/{파일명}의 썸네일은 profiles/thumbnails/{크기}/{파일명}에 JPEG로 저장됨.
+ */
+public final class ProfileThumbnail {
+
+    public static final int SMALL = 96;
+    public static final int MEDIUM = 256;
+    public static final int[] SIZES = {SMALL, MEDIUM};
+
+    private static final String PROFILE_PATH = "profiles/";
+    private static final String THUMBNAIL_PATH = PROFILE_PATH + "thumbnails/";
+
+    private ProfileThumbnail() {
+    }
+
+    public static String key(String profileKey, int size) {
+        return THUMBNAIL_PATH + size + "/" + profileKey.substring(profileKey.lastIndexOf('/') + 1);
+    }
+
+    // 프로필 이미지가 아닌 URL은 그대로 반환
+    public static String url(String profileUrl, int size) {
+        if (profileUrl == null) {
+            return null;
+        }
+
+        int index = profileUrl.lastIndexOf("/" + PROFILE_PATH);
+        if (index < 0) {
+            return profileUrl;
+        }
+        return profileUrl.substring(0, index + 1) + key(profileUrl.substring(index + 1), size);
+    }
+}
@@ -0,0 +1,259 @@
+package org.sopt.seonyakServer.global.common.external.s3;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.seonyakServer.domain.member.event.ProfileImageChangedEvent;
+import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * 프로필 이미지 썸네일(96px, 256px) 생성.
+ * 프로필 이미지 변경이 커밋된 뒤 고정 크기 워커 풀에서 S3 원본을 읽어 정사각형으로 자른 뒤 축소하여 JPEG로 저장하고,
+ * 저장이 끝나면 회원의 thumbnailReady를 표시함. 그 전까지(대기열 초과, 생성 실패 포함) 응답은 원본 이미지를 사용함.
+ * 원본 크기와 픽셀 수는 디코딩 전에 검사하여 압축 폭탄 이미지가 워커 메모리를 소진하지 않도록 함.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileThumbnailService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final Pattern PROFILE_KEY = Pattern.compile("profiles/[A-Za-z0-9._-]+");
+
+    private final S3Client s3Client;
+    private final MemberRepository memberRepository;
+
+    @Value("${aws-property.s3-bucket-name}")
+    private String bucketName;
+
+    @Value("${aws-property.s3-substring}")
+    private String s3Substring;
+
+    @Value("${image.thumbnail.max-bytes:10485760}")
+    private long maxBytes;
+
+    @Value("${image.thumbnail.max-pixels:25000000}")
+    private long maxPixels;
+
+    @Value("${image.thumbnail.worker-count:2}")
+    private int workerCount;
+
+    @Value("${image.thumbnail.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    protected void init() {
+        executor = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("profile-thumbnail-")
+        );
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        executor.shutdown();
+    }
+
+    // 회원 정보 변경이 커밋된 뒤에만 생성 (롤백된 변경의 썸네일을 만들지 않고, 커밋 전 조회와 경합하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileImageChanged(ProfileImageChangedEvent event) {
+        String profileKey = toProfileKey(event.imageUrl());
+        if (profileKey != null) {
+            generateAsync(profileKey, event.imageUrl());
+        }
+    }
+
+    public void generateAsync(String profileKey, String profileUrl) {
+        try {
+            executor.execute(() -> generate(profileKey, profileUrl));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue is full, skipped {}", profileKey);
+        }
+    }
+
+    // 이 버킷의 profiles/ 아래 이미지만 대상으로 함 (외부 URL이나 다른 경로는 원본 사용)
+    private String toProfileKey(String profileUrl) {
+        String prefix = "https://" + bucketName + s3Substring;
+        if (profileUrl == null || !profileUrl.startsWith(prefix)) {
+            return null;
+        }
+
+        String key = profileUrl.substring(prefix.length());
+        return PROFILE_KEY.matcher(key).matches() ? key : null;
+    }
+
+    private void generate(String profileKey, String profileUrl) {
+        try {
+            // 기본 프로필 이미지처럼 이미 썸네일이 있는 경우 빠진 크기만 생성 (모두 있으면 바로 표시)
+            int[] missingSizes = Arrays.stream(ProfileThumbnail.SIZES)
+                    .filter(size -> !exists(ProfileThumbnail.key(profileKey, size)))
+                    .toArray();
+            if (missingSizes.length == 0) {
+                memberRepository.markThumbnailReadyByImage(profileUrl);
+                return;
+            }
+
+            BufferedImage original = readBounded(profileKey);
+            if (original == null) {
+                return;
+            }
+
+            BufferedImage square = cropToSquare(original);
+            for (int size : missingSizes) {
+                byte[] thumbnail = encodeJpeg(resize(square, size));
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(ProfileThumbnail.key(profileKey, size))
+                                .contentType("image/jpeg")
+                                .contentDisposition("inline")
+                                .cacheControl(CACHE_CONTROL)
+                                .build(),
+                        RequestBody.fromBytes(thumbnail));
+            }
+            memberRepository.markThumbnailReadyByImage(profileUrl);
+        } catch (NoSuchKeyException e) {
+            log.info("Profile image no longer exists, skipped thumbnail for {}", profileKey);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate thumbnail for {}", profileKey, e);
+        }
+    }
+
+    // 디코딩 전에 파일 크기와 픽셀 수를 확인하고, 썸네일에 필요한 만큼만 서브샘플링하여 읽음
+    private BufferedImage readBounded(String profileKey) throws IOException {
+        HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(profileKey)
+                .build());
+        if (head.contentLength() == null || head.contentLength() > maxBytes) {
+            log.info("Profile image is too large ({} bytes), skipped thumbnail for {}",
+                    head.contentLength(), profileKey);
+            return null;
+        }
+
+        try (InputStream inputStream = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(profileKey)
+                .build());
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null
+                    ? null
+                    : ImageIO.getImageReaders(imageInputStream);
+            // ImageIO가 디코딩하지 못하는 형식(webp 등)은 원본만 사용
+            if (readers == null || !readers.hasNext()) {
+                log.info("Unsupported image format, skipped thumbnail for {}", profileKey);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.info("Profile image has too many pixels ({}x{}), skipped thumbnail for {}",
+                            width, height, profileKey);
+                    return null;
+                }
+
+                // 가장 큰 썸네일의 2배 이상 해상도만 남기고 읽어 디코딩 메모리를 줄임
+                int subsampling = Math.max(1, Math.min(width, height) / (ProfileThumbnail.MEDIUM * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private BufferedImage cropToSquare(BufferedImage image) {
+        int length = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - length) / 2;
+        int y = (image.getHeight() - length) / 2;
+        return image.getSubimage(x, y, length, length);
+    }
+
+    // 원본보다 크게 늘리지는 않음
+    private BufferedImage resize(BufferedImage square, int size) {
+        int length = Math.min(size, square.getWidth());
+        BufferedImage resized = new BufferedImage(length, length, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(square, 0, 0, length, length, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
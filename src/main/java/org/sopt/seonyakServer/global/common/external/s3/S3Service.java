@@ -1,13 +1,14 @@
 package org.sopt.seonyakServer.global.common.external.s3;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.sopt.seonyakServer.domain.member.model.Member;
-import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.seonyakServer.domain.member.service.MemberService;
 import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
 import org.sopt.seonyakServer.global.auth.PrincipalHandler;
 import org.sopt.seonyakServer.global.common.external.s3.dto.PreSignedUrlResponse;
@@ -15,16 +16,17 @@ import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class S3Service {
 
     @Value("${aws-property.s3-bucket-name}")
@@ -37,7 +39,7 @@ public class S3Service {
     private final S3Presigner s3Presigner;
 
     private final PrincipalHandler principalHandler;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
     private final SeniorRepository seniorRepository;
 
     // PreSigned URL 만료시간 60분
@@ -106,32 +108,28 @@ public class S3Service {
         }
     }
 
-    @Transactional
+    // 트랜잭션 밖에서 S3 PUT을 끝낸 뒤에 회원 프로필을 갱신함
     public void uploadProfile(MultipartFile profileImage) {
         validateExtension(profileImage);
         validateFileSize(profileImage);
 
+        Long memberId = principalHandler.getUserIdFromPrincipal();
+
         // UUID 파일명 생성
         String uuidFileName = UUID.randomUUID().toString() + ".jpg";
         // 경로 + 파일 이름
         String key = profilePath + uuidFileName;
-        Member member = memberRepository.findMemberByIdOrThrow(principalHandler.getUserIdFromPrincipal());
-        member.addProfile("https://" + bucketName + s3Substring + key);
+        putObject(key, profileImage);
+
         try {
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(profileImage.getContentType())
-                    .contentDisposition("inline")
-                    .build();
-            RequestBody requestBody = RequestBody.fromBytes(profileImage.getBytes());
-            s3Client.putObject(request, requestBody);
-        } catch (Exception e) {
-            throw new CustomException(ErrorType.S3_UPLOAD_ERROR);
+            memberService.updateProfileImage(memberId, "https://" + bucketName + s3Substring + key);
+        } catch (RuntimeException e) {
+            // 회원 정보 반영에 실패하면 업로드한 이미지는 고아 객체가 되므로 삭제
+            deleteObjectQuietly(key);
+            throw e;
         }
     }
 
-    @Transactional
     public void uploadBusinessCard(MultipartFile businessCardImage) {
         validateExtension(businessCardImage);
         validateFileSize(businessCardImage);
@@ -149,17 +147,34 @@ public class S3Service {
 //        Senior senior = seniorRepository.findSeniorByIdOrThrow(member.getSenior().getId());
 //        senior.addBusinessCard("https://" + bucketName + s3Substring + key);
 
+        putObject(key, businessCardImage);
+    }
+
+    // 이미지를 힙에 복사하지 않고 Content-Length와 함께 InputStream 그대로 S3로 전송
+    private void putObject(String key, MultipartFile image) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(image.getContentType())
+                .contentLength(image.getSize())
+                .contentDisposition("inline")
+                .build();
+
+        try (InputStream inputStream = image.getInputStream()) {
+            s3Client.putObject(request, RequestBody.fromInputStream(inputStream, image.getSize()));
+        } catch (Exception e) {
+            throw new CustomException(ErrorType.S3_UPLOAD_ERROR);
+        }
+    }
+
+    private void deleteObjectQuietly(String key) {
         try {
-            PutObjectRequest request = PutObjectRequest.builder()
+            s3Client.deleteObject(DeleteObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
-                    .contentType(businessCardImage.getContentType())
-                    .contentDisposition("inline")
-                    .build();
-            RequestBody requestBody = RequestBody.fromBytes(businessCardImage.getBytes());
-            s3Client.putObject(request, requestBody);
-        } catch (Exception e) {
-            throw new CustomException(ErrorType.S3_UPLOAD_ERROR);
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete orphan S3 object {}", key, e);
         }
     }
 
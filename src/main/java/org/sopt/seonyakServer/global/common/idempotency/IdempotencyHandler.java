@@ -0,0 +1,143 @@
+package org.sopt.seonyakServer.global.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.sopt.seonyakServer.global.auth.PrincipalHandler;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 헤더 처리.
+ * 같은 회원이 같은 키로 다시 요청하면 처음 성공한 결과를 Redis에서 그대로 돌려주고, 처리 중이면 바로 거절함.
+ * 키와 함께 요청 본문의 해시를 저장하여, 같은 키로 다른 본문을 보내면 422로 거절함.
+ * 실패한 요청은 결과를 남기지 않으므로 같은 키로 재시도할 수 있음.
+ * Redis 장애 시에는 멱등성 보장 없이 요청을 그대로 처리함 (약속 상태 변경은 @Version 검사로 보호됨).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyHandler {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+    private static final String DONE_PREFIX = "DONE:";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final PrincipalHandler principalHandler;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    public void execute(String idempotencyKey, String operation, Object request, Runnable action) {
+        execute(idempotencyKey, operation, request, Void.class, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(
+            String idempotencyKey,
+            String operation,
+            Object request,
+            Class<T> resultType,
+            Supplier<T> action
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String fingerprint = fingerprint(request);
+        RBucket<String> bucket = redissonClient.getBucket(
+                KEY_PREFIX + principalHandler.getUserIdFromPrincipal() + ":" + operation + ":" + idempotencyKey,
+                StringCodec.INSTANCE
+        );
+
+        String stored;
+        try {
+            if (bucket.setIfAbsent(IN_PROGRESS_PREFIX + fingerprint, IN_PROGRESS_TTL)) {
+                stored = null;
+            } else {
+                stored = bucket.get();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to check idempotency key, processing without it - operation: {}", operation, e);
+            return action.get();
+        }
+
+        if (stored != null) {
+            return replay(stored, fingerprint, resultType);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            deleteQuietly(bucket, operation);
+            throw e;
+        }
+
+        try {
+            bucket.set(DONE_PREFIX + fingerprint + ":" + objectMapper.writeValueAsString(result),
+                    Duration.ofHours(ttlHours));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 결과 저장에 실패해도 요청 자체는 성공했으므로 응답은 그대로 내려줌
+            log.warn("Failed to store idempotent result - operation: {}", operation, e);
+            deleteQuietly(bucket, operation);
+        }
+        return result;
+    }
+
+    // 저장 형식: IN_PROGRESS:{해시} 또는 DONE:{해시}:{결과 JSON}
+    private <T> T replay(String stored, String fingerprint, Class<T> resultType) {
+        boolean done = stored.startsWith(DONE_PREFIX);
+        if (!done && !stored.startsWith(IN_PROGRESS_PREFIX)) {
+            throw new CustomException(ErrorType.IDEMPOTENT_REQUEST_IN_PROGRESS_ERROR);
+        }
+        String body = stored.substring(done ? DONE_PREFIX.length() : IN_PROGRESS_PREFIX.length());
+        if (!body.startsWith(fingerprint)) {
+            throw new CustomException(ErrorType.IDEMPOTENCY_KEY_REUSED_ERROR);
+        }
+        if (!done) {
+            throw new CustomException(ErrorType.IDEMPOTENT_REQUEST_IN_PROGRESS_ERROR);
+        }
+
+        try {
+            return objectMapper.readValue(body.substring(fingerprint.length() + 1), resultType);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void deleteQuietly(RBucket<String> bucket, String operation) {
+        try {
+            bucket.delete();
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear idempotency key - operation: {}", operation, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.sopt.seonyakServer.global.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 어노테이션으로는 표현할 수 없는 PostgreSQL 전용 인덱스를 기동 시 생성하고, PostgreSQL이 아닌 DB(H2 등)에서는 건너뜀.
+ * - 대학/학과 자동완성의 LIKE '%keyword%' 검색용 trigram GIN 인덱스
+ * - 진행 중인(PENDING, SCHEDULED) 약속은 (member_id, senior_id)당 하나만 존재하도록 하는 부분 유니크 인덱스
+ * 약속 신청의 중복 방지는 부분 유니크 인덱스에만 의존하므로, 이 인덱스가 없으면 웹 서버가 뜨기 전에 기동을 실패시킴.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresIndexConfig implements SmartInitializingSingleton {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String ACTIVE_PAIR_INDEX = "uk_appointment_active_pair";
+
+    private static final String[] INDEX_DDL = {
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_university_univ_name_trgm "
+                    + "ON university USING gin (univ_name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_department_dept_name_trgm "
+                    + "ON department USING gin (dept_name gin_trgm_ops)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS uk_appointment_active_pair "
+                    + "ON appointment (member_id, senior_id) "
+                    + "WHERE appointment_status IN ('PENDING', 'SCHEDULED')",
+            // 유니크 인덱스가 만들어진 경우에만 대체된 기존 인덱스 삭제
+            "DO $$ BEGIN "
+                    + "IF EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'uk_appointment_active_pair') THEN "
+                    + "DROP INDEX IF EXISTS idx_appointment_active_pair; "
+                    + "END IF; "
+                    + "END $$",
+            // 만료 스케줄러는 appointment_slot의 end_at으로 찾으므로 쓰이지 않는 확정 약속 id 인덱스 삭제
+            "DROP INDEX IF EXISTS idx_appointment_scheduled_id"
+    };
+
+    private final DataSource dataSource;
+
+    // 모든 빈(JPA 스키마 생성 포함)이 준비된 뒤, 웹 서버가 요청을 받기 전에 실행
+    @Override
+    public void afterSingletonsInstantiated() {
+        createIndexes();
+    }
+
+    private void createIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : INDEX_DDL) {
+                    execute(statement, ddl);
+                }
+                if (!isValidIndex(statement, ACTIVE_PAIR_INDEX)) {
+                    throw new IllegalStateException("Required index " + ACTIVE_PAIR_INDEX + " is missing or invalid. "
+                            + "Drop it if invalid, close duplicate PENDING/SCHEDULED appointments "
+                            + "per (member_id, senior_id) and restart to create it.");
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to verify PostgreSQL indexes", e);
+        }
+    }
+
+    // 생성이 중간에 실패한 인덱스(indisvalid = false)는 제약으로 동작하지 않으므로 없는 것으로 봄
+    private boolean isValidIndex(Statement statement, String indexName) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "WHERE c.relname = '" + indexName + "'")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    // 하나가 실패해도 (ex. 기존 중복 데이터로 유니크 인덱스 생성 실패) 나머지는 계속 생성하고, 필수 인덱스만 마지막에 확인함
+    private void execute(Statement statement, String ddl) {
+        try {
+            statement.execute(ddl);
+        } catch (SQLException e) {
+            log.warn("Failed to execute index DDL [{}] - {}", ddl, e.getMessage());
+        }
+    }
+}
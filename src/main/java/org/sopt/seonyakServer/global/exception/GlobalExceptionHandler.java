@@ -3,6 +3,7 @@ package org.sopt.seonyakServer.global.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.seonyakServer.global.exception.enums.ErrorType;
 import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,6 +22,15 @@ public class GlobalExceptionHandler {
     }
 
 
+    // 동시에 같은 엔티티를 수정하여 @Version 검사에 실패한 경우 (재시도하지 않고 바로 거절)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorType> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.error("GlobalExceptionHandler catch OptimisticLockingFailureException : {}", e.getMessage());
+        return ResponseEntity
+                .status(ErrorType.APPOINTMENT_CONFLICT_ERROR.getHttpStatus())
+                .body(ErrorType.APPOINTMENT_CONFLICT_ERROR);
+    }
+
     // valid에서 발생한 예외
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorType> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
@@ -41,6 +41,10 @@ public enum ErrorType {
     INVALID_USER_TYPE_ERROR(HttpStatus.BAD_REQUEST, "40026", "유효하지 않은 User Type입니다."),
     INVALID_BOTH_TOPICS_PROVIDED(HttpStatus.BAD_REQUEST, "40027", "고민은 선택/작성 중 하나만 골라야 합니다."),
     INVALID_NO_TOPIC_PROVIDED(HttpStatus.BAD_REQUEST, "40028", "고민은 선택/작성 중 하나는 골라야 합니다."),
+    INVALID_CURSOR_ERROR(HttpStatus.BAD_REQUEST, "40029", "유효하지 않은 커서입니다."),
+    TOO_MANY_SENIOR_IDS_ERROR(HttpStatus.BAD_REQUEST, "40030", "한 번에 조회할 수 있는 선배 수를 초과했습니다."),
+    NOT_PREFERRED_TIME_ERROR(HttpStatus.BAD_REQUEST, "40031", "선배가 선호하는 시간이 아닙니다."),
+    INVALID_WEEKS_ERROR(HttpStatus.BAD_REQUEST, "40032", "조회할 수 있는 주 수를 벗어났습니다."),
 
     // S3 관련 오류
     IMAGE_EXTENSION_ERROR(HttpStatus.BAD_REQUEST, "40051", "이미지 확장자는 jpg, png, webp만 가능합니다."),
@@ -84,6 +88,14 @@ public enum ErrorType {
      */
     NICKNAME_DUP_ERROR(HttpStatus.CONFLICT, "40901", "이미 사용 중인 닉네임입니다."),
     PHONE_NUMBER_DUP_ERROR(HttpStatus.CONFLICT, "40902", "이미 사용 중인 휴대전화 번호입니다."),
+    APPOINTMENT_CONFLICT_ERROR(HttpStatus.CONFLICT, "40903", "다른 요청에 의해 약속이 처리 중이거나 이미 변경되었습니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS_ERROR(HttpStatus.CONFLICT, "40904", "같은 요청이 이미 처리 중입니다."),
+    APPOINTMENT_TIME_CONFLICT_ERROR(HttpStatus.CONFLICT, "40905", "선배의 다른 약속과 시간이 겹칩니다."),
+
+    /**
+     * 422 UNPROCESSABLE ENTITY
+     */
+    IDEMPOTENCY_KEY_REUSED_ERROR(HttpStatus.UNPROCESSABLE_ENTITY, "42201", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
 
     /**
      * 500 INTERNAL SERVER ERROR
@@ -93,7 +105,18 @@ public enum ErrorType {
     GET_GOOGLE_MEET_URL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50003", "구글미트 URL 획득에 실패했습니다."),
     GET_GOOGLE_AUTHORIZER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50004", "구글 인증유저 획득에 실패했습니다."),
     INTERNAL_FEIGN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50005", "FEIGN 에러가 발생했습니다."),
-    SMTP_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50006", "메일 발송에 실패했습니다.");
+    SMTP_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50006", "메일 발송에 실패했습니다."),
+    OCR_REQUEST_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50007", "OCR 요청에 실패했습니다."),
+
+    /**
+     * 503 SERVICE UNAVAILABLE
+     */
+    OCR_BUSY_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "50301", "OCR 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    /**
+     * 504 GATEWAY TIMEOUT
+     */
+    OCR_TIMEOUT_ERROR(HttpStatus.GATEWAY_TIMEOUT, "50401", "OCR 응답 시간이 초과되었습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
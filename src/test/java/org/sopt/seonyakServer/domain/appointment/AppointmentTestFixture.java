@@ -0,0 +1,91 @@
+package org.sopt.seonyakServer.domain.appointment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.sopt.seonyakServer.domain.appointment.model.Appointment;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.model.DateTimeRange;
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.member.model.SocialType;
+import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 약속 관련 통합 테스트에서 쓰는 회원/선배/약속 생성 도우미
+public final class AppointmentTestFixture {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private AppointmentTestFixture() {
+    }
+
+    public static Member member(final String nickname) {
+        Member member = Member.builder()
+                .socialType(SocialType.GOOGLE)
+                .socialId(UUID.randomUUID().toString())
+                .email(UUID.randomUUID() + "@test.com")
+                .build();
+        member.updateMember(true, nickname, "image.png", phoneNumber(), "테스트대학교", "IT", List.of("컴퓨터공학과"));
+        return member;
+    }
+
+    public static Senior senior(final Member member) {
+        return Senior.builder()
+                .member(member)
+                .businessCard("businessCard.png")
+                .company("테스트회사")
+                .position("개발")
+                .detailPosition("백엔드")
+                .level("1")
+                .build();
+    }
+
+    public static Appointment appointment(final Member member, final Senior senior, final AppointmentStatus status) {
+        return Appointment.builder()
+                .member(member)
+                .senior(senior)
+                .appointmentStatus(status)
+                .timeList(timeList("2099-01-01", "10:00", "11:00"))
+                .personalTopic("고민")
+                .build();
+    }
+
+    public static List<DateTimeRange> timeList(final String date, final String startTime, final String endTime) {
+        return List.of(OBJECT_MAPPER.convertValue(
+                Map.of("date", date, "startTime", startTime, "endTime", endTime),
+                DateTimeRange.class
+        ));
+    }
+
+    // 알림 문자가 적재되도록 번호는 넣되, 실제로 발송되더라도 받는 사람이 없도록 배정되지 않는 010-00xx 대역을 사용
+    private static String phoneNumber() {
+        return "01000" + String.format("%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+    }
+
+    // 트랜잭션 없이 여러 스레드로 실행한 테스트가 남긴 회원과 약속, 약속 시간, 알림 문자를 지움
+    public static void deleteMembers(final JdbcTemplate jdbcTemplate, final Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Long[] ids = memberIds.toArray(Long[]::new);
+        String appointmentIds = "SELECT a.id FROM appointment a "
+                + "WHERE a.member_id = ANY (?) OR a.senior_id IN (SELECT s.id FROM senior s WHERE s.member_id = ANY (?))";
+        jdbcTemplate.update(
+                "DELETE FROM notice_message WHERE split_part(dedup_key, ':', 2) IN "
+                        + "(SELECT CAST(id AS varchar) FROM (" + appointmentIds + ") appointment_ids)",
+                ids, ids);
+        jdbcTemplate.update("DELETE FROM appointment_slot WHERE appointment_id IN (" + appointmentIds + ")", ids, ids);
+        jdbcTemplate.update("DELETE FROM appointment WHERE id IN (" + appointmentIds + ")", ids, ids);
+        jdbcTemplate.update("DELETE FROM senior WHERE member_id = ANY (?)", (Object) ids);
+        jdbcTemplate.update("DELETE FROM member WHERE id = ANY (?)", (Object) ids);
+    }
+
+    // 테스트마다 겹치지 않는 닉네임
+    public static String nickname(final String prefix) {
+        return prefix + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
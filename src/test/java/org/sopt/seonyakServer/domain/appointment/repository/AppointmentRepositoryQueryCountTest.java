@@ -0,0 +1,100 @@
+package org.sopt.seonyakServer.domain.appointment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.appointment;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.member;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.nickname;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.senior;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentCard;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+// 약속 카드 조회가 약속 수와 상관없이 역할별 쿼리 한 번으로 끝나는지 확인 (N+1 회귀 방지)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class AppointmentRepositoryQueryCountTest {
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void juniorCardsUseOneStatementRegardlessOfAppointmentCount() {
+        Member junior = persist(member(nickname("junior")));
+        for (int i = 0; i < 20; i++) {
+            Member seniorMember = persist(member(nickname("senior")));
+            Senior senior = persist(senior(seniorMember));
+            persist(appointment(junior, senior, AppointmentStatus.values()[i % AppointmentStatus.values().length]));
+            if (i == 0) {
+                assertThat(countStatements(() -> appointmentRepository.findAppointmentCardsByMemberId(junior.getId())))
+                        .isEqualTo(1);
+            }
+        }
+
+        long statements = countStatements(() -> {
+            List<AppointmentCard> cards = appointmentRepository.findAppointmentCardsByMemberId(junior.getId());
+            assertThat(cards).hasSize(20);
+        });
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void seniorCardsUseOneStatementRegardlessOfAppointmentCount() {
+        Senior senior = persist(senior(persist(member(nickname("senior")))));
+        for (int i = 0; i < 20; i++) {
+            Member junior = persist(member(nickname("junior")));
+            persist(appointment(junior, senior, AppointmentStatus.values()[i % AppointmentStatus.values().length]));
+            if (i == 0) {
+                assertThat(countStatements(() -> appointmentRepository.findAppointmentCardsBySeniorId(senior.getId())))
+                        .isEqualTo(1);
+            }
+        }
+
+        long statements = countStatements(() -> {
+            List<AppointmentCard> cards = appointmentRepository.findAppointmentCardsBySeniorId(senior.getId());
+            assertThat(cards).hasSize(20);
+        });
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    // 쓰기 지연된 INSERT는 미리 내보내고, 영속성 컨텍스트를 비운 상태에서 실행된 SQL 수만 셈
+    private long countStatements(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
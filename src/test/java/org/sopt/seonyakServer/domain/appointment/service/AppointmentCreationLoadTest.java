@@ -0,0 +1,171 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.deleteMembers;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.member;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.nickname;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.senior;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.timeList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRequest;
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.sopt.seonyakServer.domain.notice.service.NoticeMessageDispatcher;
+import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
+import org.sopt.seonyakServer.global.auth.MemberAuthentication;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+// 약속 신청이 동시에 몰릴 때 진행 중인 약속의 부분 유니크 인덱스가 중복을 막는지, 서로 다른 쌍은 막히지 않는지 확인
+// 기본 빌드에서는 제외되며 ./gradlew loadTest 로 실행 (알림 문자는 적재만 하고 발송기는 mock으로 바꿈)
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentCreationLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentCreationLoadTest.class);
+
+    private static final int THREAD_COUNT = 16;
+    private static final int DISTINCT_PAIR_COUNT = 64;
+
+    @MockBean
+    private NoticeMessageDispatcher noticeMessageDispatcher;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SeniorRepository seniorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteMembers(jdbcTemplate, memberIds);
+    }
+
+    @Test
+    void concurrentRequestsForSamePairCreateOneActiveAppointment() throws Exception {
+        Member junior = save(member(nickname("junior")));
+        Senior senior = seniorRepository.save(senior(save(member(nickname("senior")))));
+
+        List<Callable<Boolean>> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            requests.add(() -> post(junior, senior));
+        }
+        List<Boolean> results = runConcurrently(requests, "same pair");
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertThat(countActive(junior, senior)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsForDistinctPairsAllSucceed() throws Exception {
+        Senior senior = seniorRepository.save(senior(save(member(nickname("senior")))));
+
+        List<Member> juniors = new ArrayList<>();
+        List<Callable<Boolean>> requests = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_PAIR_COUNT; i++) {
+            Member junior = save(member(nickname("junior")));
+            juniors.add(junior);
+            requests.add(() -> post(junior, senior));
+        }
+        List<Boolean> results = runConcurrently(requests, "distinct pairs");
+
+        assertThat(results).containsOnly(true);
+        for (Member junior : juniors) {
+            assertThat(countActive(junior, senior)).isEqualTo(1);
+        }
+    }
+
+    private Member save(Member member) {
+        Member saved = memberRepository.save(member);
+        memberIds.add(saved.getId());
+        return saved;
+    }
+
+    // 중복 신청으로 거절된 경우만 false로 보고, 그 밖의 예외는 테스트 실패로 드러나도록 그대로 던짐
+    private boolean post(Member junior, Senior senior) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new MemberAuthentication(junior.getId().toString(), null, null));
+        try {
+            appointmentService.postAppointment(new AppointmentRequest(
+                    senior.getId(),
+                    null,
+                    "고민",
+                    timeList("2099-01-01", "10:00", "11:00")));
+            return true;
+        } catch (CustomException e) {
+            if (e.getErrorType() == ErrorType.INVALID_SAME_SENIOR) {
+                return false;
+            }
+            throw e;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private List<Boolean> runConcurrently(List<Callable<Boolean>> requests, String name) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> request : requests) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+            log.info("Appointment creation ({}) - {} requests, {} threads, {} ms, {} req/s",
+                    name, requests.size(), THREAD_COUNT, elapsedMillis, requests.size() * 1000L / elapsedMillis);
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countActive(Member junior, Senior senior) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM appointment WHERE member_id = ? AND senior_id = ? "
+                        + "AND appointment_status IN ('PENDING', 'SCHEDULED')",
+                Integer.class,
+                junior.getId(),
+                senior.getId());
+        return count == null ? 0 : count;
+    }
+}
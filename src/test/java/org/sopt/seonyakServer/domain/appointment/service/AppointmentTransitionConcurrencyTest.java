@@ -0,0 +1,148 @@
+package org.sopt.seonyakServer.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.appointment;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.deleteMembers;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.member;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.nickname;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.senior;
+import static org.sopt.seonyakServer.domain.appointment.AppointmentTestFixture.timeList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.sopt.seonyakServer.domain.appointment.dto.AppointmentAcceptRequest;
+import org.sopt.seonyakServer.domain.appointment.dto.AppointmentRejectRequest;
+import org.sopt.seonyakServer.domain.appointment.model.Appointment;
+import org.sopt.seonyakServer.domain.appointment.model.AppointmentStatus;
+import org.sopt.seonyakServer.domain.appointment.repository.AppointmentRepository;
+import org.sopt.seonyakServer.domain.member.model.Member;
+import org.sopt.seonyakServer.domain.member.repository.MemberRepository;
+import org.sopt.seonyakServer.domain.notice.repository.NoticeMessageRepository;
+import org.sopt.seonyakServer.domain.notice.service.NoticeMessageDispatcher;
+import org.sopt.seonyakServer.domain.senior.model.Senior;
+import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
+import org.sopt.seonyakServer.global.auth.MemberAuthentication;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+// 선배가 같은 약속을 동시에 여러 번 수락/거절해도 상태 변경과 알림 문자는 한 번만 일어나는지 확인
+// (알림 문자는 적재 여부만 확인하고, 실제 발송은 하지 않도록 발송기를 mock으로 바꿈)
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentTransitionConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 8;
+    // 먼저 처리된 요청과 겹쳐 거절될 때 나올 수 있는 오류 (처리 중, 이미 변경됨)
+    private static final Set<ErrorType> CONFLICT_ERRORS = Set.of(
+            ErrorType.APPOINTMENT_CONFLICT_ERROR,
+            ErrorType.NOT_PENDING_APPOINTMENT_ERROR,
+            ErrorType.IDEMPOTENT_REQUEST_IN_PROGRESS_ERROR
+    );
+
+    @MockBean
+    private NoticeMessageDispatcher noticeMessageDispatcher;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SeniorRepository seniorRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private NoticeMessageRepository noticeMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteMembers(jdbcTemplate, memberIds);
+    }
+
+    @Test
+    void concurrentAcceptAndRejectTransitionOnlyOnce() throws Exception {
+        Member junior = memberRepository.save(member(nickname("junior")));
+        Member seniorMember = memberRepository.save(member(nickname("senior")));
+        memberIds.add(junior.getId());
+        memberIds.add(seniorMember.getId());
+        Senior senior = seniorRepository.save(senior(seniorMember));
+        Long appointmentId = appointmentRepository.save(appointment(junior, senior, AppointmentStatus.PENDING)).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                boolean accept = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new MemberAuthentication(seniorMember.getId().toString(), null, null));
+                    start.await();
+                    try {
+                        if (accept) {
+                            appointmentService.acceptAppointment(new AppointmentAcceptRequest(
+                                    appointmentId,
+                                    "https://meet.google.com/test",
+                                    timeList("2099-01-01", "10:00", "11:00")));
+                        } else {
+                            appointmentService.rejectAppointment(
+                                    new AppointmentRejectRequest(appointmentId, "일정이 맞지 않음", null));
+                        }
+                        return true;
+                    } catch (CustomException e) {
+                        assertThat(e.getErrorType()).isIn(CONFLICT_ERRORS);
+                        return false;
+                    } catch (OptimisticLockingFailureException e) {
+                        // 버전 충돌
+                        return false;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Appointment appointment = appointmentRepository.findAppointmentByIdOrThrow(appointmentId);
+        assertThat(appointment.getAppointmentStatus()).isIn(AppointmentStatus.SCHEDULED, AppointmentStatus.REJECTED);
+        assertThat(appointment.getVersion()).isEqualTo(1L);
+
+        boolean acceptNotice = noticeMessageRepository.existsByDedupKey("APPOINTMENT_ACCEPTED:" + appointmentId);
+        boolean rejectNotice = noticeMessageRepository.existsByDedupKey("APPOINTMENT_REJECTED:" + appointmentId);
+        assertThat(acceptNotice).isNotEqualTo(rejectNotice);
+        assertThat(acceptNotice).isEqualTo(appointment.getAppointmentStatus() == AppointmentStatus.SCHEDULED);
+    }
+}
@@ -0,0 +1,34 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Google Meet API 대신 순번이 붙은 회의 URL을 돌려주는 테스트용 클라이언트 (failing이면 생성 실패를 흉내냄)
+class FakeMeetSpaceClient implements MeetSpaceClient {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile int remainingBeforeFailure = Integer.MAX_VALUE;
+
+    @Override
+    public String createSpace() {
+        calls.incrementAndGet();
+        if (remainingBeforeFailure <= 0) {
+            throw new IllegalStateException("Meet API unavailable");
+        }
+        remainingBeforeFailure--;
+        return "https://meet.google.com/fake-" + created.incrementAndGet();
+    }
+
+    // 앞으로 successes번 성공한 뒤부터 실패
+    void failAfter(int successes) {
+        remainingBeforeFailure = successes;
+    }
+
+    void recover() {
+        remainingBeforeFailure = Integer.MAX_VALUE;
+    }
+
+    int calls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,68 @@
+package org.sopt.seonyakServer.global.common.external.googlemeet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MeetSpacePoolTest {
+
+    private FakeMeetSpaceClient meetSpaceClient;
+
+    @BeforeEach
+    void setUp() {
+        meetSpaceClient = new FakeMeetSpaceClient();
+    }
+
+    @Test
+    void takeReturnsPooledUriWithoutCallingClient() {
+        MeetSpacePool pool = pool(2);
+        pool.refill();
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(meetSpaceClient.calls()).isEqualTo(2);
+
+        String meetingUri = pool.take();
+
+        assertThat(meetingUri).isEqualTo("https://meet.google.com/fake-1");
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(meetSpaceClient.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void takeCreatesSpaceWhenPoolIsEmpty() {
+        MeetSpacePool pool = pool(0);
+        pool.refill();
+        assertThat(meetSpaceClient.calls()).isZero();
+
+        String meetingUri = pool.take();
+
+        assertThat(meetingUri).isEqualTo("https://meet.google.com/fake-1");
+        assertThat(pool.size()).isZero();
+        assertThat(meetSpaceClient.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void refillStopsOnClientErrorAndResumesNextRun() {
+        MeetSpacePool pool = pool(3);
+        meetSpaceClient.failAfter(1);
+
+        // 실패는 스케줄러로 전파되지 않고, 실패 이후로는 더 호출하지 않음
+        assertThatCode(pool::refill).doesNotThrowAnyException();
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(meetSpaceClient.calls()).isEqualTo(2);
+
+        meetSpaceClient.recover();
+        pool.refill();
+
+        assertThat(pool.size()).isEqualTo(3);
+        assertThat(meetSpaceClient.calls()).isEqualTo(4);
+    }
+
+    private MeetSpacePool pool(int poolSize) {
+        MeetSpacePool pool = new MeetSpacePool(meetSpaceClient);
+        ReflectionTestUtils.setField(pool, "poolSize", poolSize);
+        return pool;
+    }
+}
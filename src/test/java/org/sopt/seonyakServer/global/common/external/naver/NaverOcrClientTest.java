@@ -0,0 +1,160 @@
+package org.sopt.seonyakServer.global.common.external.naver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sopt.seonyakServer.global.exception.enums.ErrorType;
+import org.sopt.seonyakServer.global.exception.model.CustomException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 네이버 OCR 대신 JDK HttpServer로 띄운 로컬 스텁에 요청하여 응답/타임아웃/동시 요청 제한 처리를 확인
+class NaverOcrClientTest {
+
+    private static final String API_KEY = "test-secret";
+    private static final byte[] IMAGE = "fake-image-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private NaverOcrClient client;
+
+    // 스텁 응답을 막아 두는 래치 (테스트 종료 시 풀어 서버 스레드가 남지 않도록 함)
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (client != null) {
+            client.destroy();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void returnsBodyAndStreamsFileWithContentLength() {
+        AtomicReference<String> secret = new AtomicReference<>();
+        AtomicReference<String> contentLength = new AtomicReference<>();
+        AtomicReference<String> body = new AtomicReference<>();
+        server.createContext("/ocr", exchange -> {
+            secret.set(exchange.getRequestHeaders().getFirst("X-OCR-SECRET"));
+            contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            body.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"images\":[]}");
+        });
+        client = client(20000, 4);
+
+        String response = client.request(url(), API_KEY, file()).join();
+
+        assertThat(response).isEqualTo("{\"images\":[]}");
+        assertThat(secret.get()).isEqualTo(API_KEY);
+        assertThat(contentLength.get()).isNotNull();
+        assertThat(Long.parseLong(contentLength.get())).isEqualTo(body.get().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(body.get())
+                .contains("name=\"message\"")
+                .contains("filename=\"card.jpg\"")
+                .contains(new String(IMAGE, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void non200ResponseBecomesRequestError() {
+        server.createContext("/ocr", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 500, "error");
+        });
+        client = client(20000, 4);
+
+        assertOcrError(client.request(url(), API_KEY, file()), ErrorType.OCR_REQUEST_ERROR);
+    }
+
+    @Test
+    void slowResponseBecomesTimeoutError() {
+        server.createContext("/ocr", this::respondAfterRelease);
+        client = client(200, 4);
+
+        assertOcrError(client.request(url(), API_KEY, file()), ErrorType.OCR_TIMEOUT_ERROR);
+    }
+
+    @Test
+    void requestsOverConcurrencyLimitAreRejectedImmediately() {
+        server.createContext("/ocr", this::respondAfterRelease);
+        client = client(20000, 1);
+
+        CompletableFuture<String> first = client.request(url(), API_KEY, file());
+        assertOcrError(client.request(url(), API_KEY, file()), ErrorType.OCR_BUSY_ERROR);
+
+        // 먼저 보낸 요청이 끝나면 다시 보낼 수 있음
+        release.countDown();
+        assertThat(first.join()).isEqualTo("{}");
+        assertThat(client.request(url(), API_KEY, file()).join()).isEqualTo("{}");
+    }
+
+    private NaverOcrClient client(long readTimeoutMillis, int maxConcurrency) {
+        OcrConfig ocrConfig = new OcrConfig();
+        ReflectionTestUtils.setField(ocrConfig, "connectTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(ocrConfig, "readTimeoutMillis", readTimeoutMillis);
+        ReflectionTestUtils.setField(ocrConfig, "maxConcurrency", maxConcurrency);
+
+        NaverOcrClient naverOcrClient = new NaverOcrClient(ocrConfig);
+        naverOcrClient.init();
+        return naverOcrClient;
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/ocr";
+    }
+
+    private MockMultipartFile file() {
+        return new MockMultipartFile("file", "card.jpg", "image/jpeg", IMAGE);
+    }
+
+    private void respondAfterRelease(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, 200, "{}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static void assertOcrError(CompletableFuture<String> future, ErrorType errorType) {
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorType", errorType);
+    }
+}
@@ -0,0 +1,172 @@
+package org.sopt.seonyakServer.global.common.external.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sopt.seonyakServer.domain.member.service.MemberService;
+import org.sopt.seonyakServer.domain.senior.repository.SeniorRepository;
+import org.sopt.seonyakServer.global.auth.PrincipalHandler;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// 실제 S3 대신 JDK HttpServer로 띄운 로컬 엔드포인트에 업로드하여 스트리밍 PUT과 고아 객체 삭제를 확인
+class S3ServiceUploadTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String S3_SUBSTRING = ".s3.ap-northeast-2.amazonaws.com/";
+    private static final Long MEMBER_ID = 1L;
+    private static final byte[] IMAGE = "fake-profile-image-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private S3Client s3Client;
+    private MemberService memberService;
+    private S3Service s3Service;
+
+    // 스텁이 받은 요청 기록 (서버 스레드에서 추가되므로 동시성 안전한 리스트 사용)
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        // 평문 HTTP에서는 aws-chunked 인코딩 대신 원본 바이트가 그대로 전송되도록 설정
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("test-access-key", "test-secret-key")
+                ))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .chunkedEncodingEnabled(false)
+                        .build())
+                .build();
+
+        PrincipalHandler principalHandler = mock(PrincipalHandler.class);
+        when(principalHandler.getUserIdFromPrincipal()).thenReturn(MEMBER_ID);
+        memberService = mock(MemberService.class);
+
+        s3Service = new S3Service(
+                s3Client,
+                mock(S3Presigner.class),
+                principalHandler,
+                memberService,
+                mock(SeniorRepository.class)
+        );
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "s3Substring", S3_SUBSTRING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void uploadProfileStreamsImageWithContentLengthAndUpdatesMember() {
+        s3Service.uploadProfile(image());
+
+        assertThat(requests).hasSize(1);
+        RecordedRequest put = requests.get(0);
+        assertThat(put.method()).isEqualTo("PUT");
+        assertThat(put.key()).startsWith("profiles/").endsWith(".jpg");
+        assertThat(put.contentLength()).isEqualTo(String.valueOf(IMAGE.length));
+        assertThat(put.contentType()).isEqualTo("image/jpeg");
+        assertThat(put.body()).isEqualTo(IMAGE);
+
+        verify(memberService).updateProfileImage(MEMBER_ID, "https://" + BUCKET + S3_SUBSTRING + put.key());
+    }
+
+    @Test
+    void uploadProfileDeletesObjectWhenMemberUpdateFails() {
+        IllegalStateException failure = new IllegalStateException("member update failed");
+        doThrow(failure).when(memberService).updateProfileImage(anyLong(), anyString());
+
+        assertThatThrownBy(() -> s3Service.uploadProfile(image()))
+                .isSameAs(failure);
+
+        assertThat(requests).extracting(RecordedRequest::method)
+                .containsExactly("PUT", "DELETE");
+        String key = requests.get(0).key();
+        assertThat(requests.get(1).key()).isEqualTo(key);
+
+        verify(memberService).updateProfileImage(eq(MEMBER_ID), eq("https://" + BUCKET + S3_SUBSTRING + key));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String prefix = "/" + BUCKET + "/";
+            String key = path.startsWith(prefix) ? path.substring(prefix.length()) : path;
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            requests.add(new RecordedRequest(
+                    exchange.getRequestMethod(),
+                    key,
+                    exchange.getRequestHeaders().getFirst("Content-Length"),
+                    exchange.getRequestHeaders().getFirst("Content-Type"),
+                    body
+            ));
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    // SDK가 응답 ETag로 본문 MD5를 검증하므로 실제 S3처럼 MD5를 돌려줌
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "DELETE" -> exchange.sendResponseHeaders(204, -1);
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("profileImage", "profile.jpg", "image/jpeg", IMAGE);
+    }
+
+    private record RecordedRequest(
+            String method,
+            String key,
+            String contentLength,
+            String contentType,
+            byte[] body
+    ) {
+    }
+}